@@ -0,0 +1,54 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final LocalDateTime CREATION = LocalDateTime.of(2025, 4, 11, 12, 0, 0);
+    static final LocalDateTime EXPIRATION = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+
+    private BenchmarkFixtures() {
+    }
+
+    static ConsentRequestDTO request() {
+        return new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, EXPIRATION, "Termo de aceite digital");
+    }
+
+    static Consent consent() {
+        return Consent.builder()
+                .id(UUID.fromString("df1d3ef5-b253-4e7b-bf2c-70a0c5df3ae0"))
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.ACTIVE)
+                .creationDateTime(CREATION)
+                .expirationDateTime(EXPIRATION)
+                .additionalInfo("Termo de aceite digital")
+                .build();
+    }
+
+    static ConsentResponseDTO response() {
+        Consent consent = consent();
+        return new ConsentResponseDTO(consent.getId(), consent.getCpf().toString(), consent.getStatus(),
+                consent.getCreationDateTime(), consent.getExpirationDateTime(), consent.getAdditionalInfo(), 0L);
+    }
+
+    static PageResponseDTO<ConsentResponseDTO> page(int size) {
+        List<ConsentResponseDTO> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new ConsentResponseDTO(UUID.randomUUID(), Cpf.fromBase(123_456_000L + i).toString(),
+                    ConsentStatus.values()[i % ConsentStatus.values().length], CREATION, EXPIRATION,
+                    "Termo de aceite digital", 0L));
+        }
+        return new PageResponseDTO<>(content, 0, size, 10_000, 10_000 / size);
+    }
+
+}
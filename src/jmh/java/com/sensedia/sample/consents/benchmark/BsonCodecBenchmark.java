@@ -0,0 +1,143 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.mongodb.MongoClientSettings;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.infra.codec.ConsentCodec;
+import com.sensedia.sample.consents.infra.codec.ConsentHistoryCodec;
+import com.sensedia.sample.consents.infra.config.MongoConfig;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BsonCodecBenchmark {
+
+    private static final EncoderContext ENCODE = EncoderContext.builder().build();
+    private static final DecoderContext DECODE = DecoderContext.builder().build();
+
+    private SimpleMongoClientDatabaseFactory factory;
+    private MappingMongoConverter converter;
+    private Codec<Document> documentCodec;
+    private ConsentCodec consentCodec;
+    private ConsentHistoryCodec historyCodec;
+    private Consent consent;
+    private ConsentHistory history;
+    private byte[] consentBson;
+    private byte[] historyBson;
+
+    @Setup
+    public void setup() {
+        factory = new SimpleMongoClientDatabaseFactory("mongodb://localhost:27017/benchmark");
+
+        MongoConfig config = new MongoConfig();
+        MongoCustomConversions conversions = config.mongoCustomConversions();
+        MongoMappingContext context = new MongoMappingContext();
+        context.setInitialEntitySet(Set.of(Consent.class, ConsentHistory.class));
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        converter = config.mappingMongoConverter(factory, context, conversions);
+        converter.afterPropertiesSet();
+
+        documentCodec = CodecRegistries.withUuidRepresentation(MongoClientSettings.getDefaultCodecRegistry(),
+                MongoConfig.UUID_REPRESENTATION).get(Document.class);
+        consentCodec = new ConsentCodec();
+        historyCodec = new ConsentHistoryCodec();
+
+        consent = BenchmarkFixtures.consent();
+        consent.setVersion(3L);
+        history = ConsentHistory.builder()
+                .id(UUID.fromString("01960b7a-7c00-7001-8000-0a0b0c0d0e0f"))
+                .consentId(consent.getId())
+                .cpf(consent.getCpf())
+                .status(ConsentStatus.REVOKED)
+                .expirationDateTime(BenchmarkFixtures.EXPIRATION)
+                .additionalInfo("Revogado manualmente")
+                .operation("UPDATED")
+                .timestamp(BenchmarkFixtures.CREATION)
+                .build();
+        consentBson = encode(consentCodec, consent);
+        historyBson = encode(historyCodec, history);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        factory.destroy();
+    }
+
+    @Benchmark
+    public byte[] consentEncodeConverter() {
+        Document document = new Document();
+        converter.write(consent, document);
+        return encode(documentCodec, document);
+    }
+
+    @Benchmark
+    public byte[] consentEncodeCodec() {
+        return encode(consentCodec, consent);
+    }
+
+    @Benchmark
+    public Consent consentDecodeConverter() {
+        return converter.read(Consent.class, decode(documentCodec, consentBson));
+    }
+
+    @Benchmark
+    public Consent consentDecodeCodec() {
+        return decode(consentCodec, consentBson);
+    }
+
+    @Benchmark
+    public byte[] historyEncodeConverter() {
+        Document document = new Document();
+        converter.write(history, document);
+        return encode(documentCodec, document);
+    }
+
+    @Benchmark
+    public byte[] historyEncodeCodec() {
+        return encode(historyCodec, history);
+    }
+
+    @Benchmark
+    public ConsentHistory historyDecodeConverter() {
+        return converter.read(ConsentHistory.class, decode(documentCodec, historyBson));
+    }
+
+    @Benchmark
+    public ConsentHistory historyDecodeCodec() {
+        return decode(historyCodec, historyBson);
+    }
+
+    private static <T> byte[] encode(Codec<T> codec, T value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        codec.encode(new BsonBinaryWriter(buffer), value, ENCODE);
+        return buffer.toByteArray();
+    }
+
+    private static <T> T decode(Codec<T> codec, byte[] bson) {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DECODE);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsentMapperBenchmark {
+
+    private final ConsentMapper mapper = Mappers.getMapper(ConsentMapper.class);
+    private final ConsentRequestDTO request = BenchmarkFixtures.request();
+    private final Consent consent = BenchmarkFixtures.consent();
+
+    @Benchmark
+    public Consent toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public ConsentResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(consent);
+    }
+
+}
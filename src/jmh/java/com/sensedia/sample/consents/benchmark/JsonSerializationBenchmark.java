@@ -0,0 +1,69 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import com.sensedia.sample.consents.rest.serialization.ConsentJsonModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(ConsentFields.ALL_FIELDS)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper optimizedMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(ConsentFields.ALL_FIELDS)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new ConsentJsonModule())
+            .build();
+    private final ConsentResponseDTO response = BenchmarkFixtures.response();
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"10", "100"})
+        private int pageSize;
+
+        private PageResponseDTO<ConsentResponseDTO> page;
+
+        @Setup
+        public void setup() {
+            page = BenchmarkFixtures.page(pageSize);
+        }
+
+    }
+
+    @Benchmark
+    public byte[] consentResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] pageResponse(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+
+    @Benchmark
+    public byte[] consentResponseOptimized() throws JsonProcessingException {
+        return optimizedMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] pageResponseOptimized(PageState state) throws JsonProcessingException {
+        return optimizedMapper.writeValueAsBytes(state.page);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.sensedia.sample.consents.infra.util.LogUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogUtilsBenchmark {
+
+    @Param({"123.456.789-00", "12345678900"})
+    private String cpf;
+
+    @Benchmark
+    public String maskCpf() {
+        return LogUtils.maskCpf(cpf);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.infra.config.MongoConfig;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MongoConversionBenchmark {
+
+    private SimpleMongoClientDatabaseFactory factory;
+    private MappingMongoConverter converter;
+    private Consent consent;
+    private Document document;
+
+    @Setup
+    public void setup() {
+        factory = new SimpleMongoClientDatabaseFactory("mongodb://localhost:27017/benchmark");
+
+        MongoConfig config = new MongoConfig();
+        MongoCustomConversions conversions = config.mongoCustomConversions();
+
+        MongoMappingContext context = new MongoMappingContext();
+        context.setInitialEntitySet(Set.of(Consent.class, ConsentHistory.class));
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+
+        converter = config.mappingMongoConverter(factory, context, conversions);
+        converter.afterPropertiesSet();
+
+        consent = BenchmarkFixtures.consent();
+        document = new Document();
+        converter.write(consent, document);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        factory.destroy();
+    }
+
+    @Benchmark
+    public Document write() {
+        Document target = new Document();
+        converter.write(consent, target);
+        return target;
+    }
+
+    @Benchmark
+    public Consent read() {
+        return converter.read(Consent.class, document);
+    }
+
+}
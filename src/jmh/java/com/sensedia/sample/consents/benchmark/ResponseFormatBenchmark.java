@@ -0,0 +1,85 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import com.sensedia.sample.consents.rest.serialization.ConsentJsonModule;
+import com.sensedia.sample.consents.rest.serialization.ConsentProtobuf;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+
+    private static final TypeReference<PageResponseDTO<ConsentResponseDTO>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDTO<ConsentResponseDTO> page;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> mapper(new CBORFactory());
+            case "smile" -> mapper(new SmileFactory());
+            default -> mapper(new JsonFactory());
+        };
+        page = BenchmarkFixtures.page(pageSize);
+        payload = encode();
+        System.out.printf("%n%s, página de %d: %d bytes%n", format, pageSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!"protobuf".equals(format)) {
+            return objectMapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload != null ? payload.length : 8192);
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ConsentProtobuf.write(page, null, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public PageResponseDTO<ConsentResponseDTO> decode() throws IOException {
+        if ("protobuf".equals(format)) {
+            return ConsentProtobuf.readPage(CodedInputStream.newInstance(payload));
+        }
+        return objectMapper.readValue(payload, PAGE_TYPE);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .filters(ConsentFields.ALL_FIELDS)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new ConsentJsonModule())
+                .build();
+    }
+
+}
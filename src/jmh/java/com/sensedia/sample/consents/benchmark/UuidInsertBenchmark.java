@@ -0,0 +1,89 @@
+package com.sensedia.sample.consents.benchmark;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.infra.config.MongoConfig;
+import com.sensedia.sample.consents.infra.util.UuidV7;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final int PRELOAD_BATCH = 10_000;
+    private static final int INSERT_BATCH = 1_000;
+    private static final Date CREATION = Date.from(BenchmarkFixtures.CREATION.toInstant(ZoneOffset.UTC));
+    private static final Date EXPIRATION = Date.from(BenchmarkFixtures.EXPIRATION.toInstant(ZoneOffset.UTC));
+
+    @Param({"V4", "V7"})
+    public String idVersion;
+
+    @Param({"1000000", "5000000"})
+    public int preloaded;
+
+    private MongoClient client;
+    private MongoCollection<Document> collection;
+    private Supplier<UUID> ids;
+    private long nextCpf;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(
+                        System.getProperty("benchmark.mongo.uri", "mongodb://localhost:27017")))
+                .uuidRepresentation(MongoConfig.UUID_REPRESENTATION)
+                .build());
+        collection = client.getDatabase("benchmark").getCollection("uuid_insert_" + idVersion.toLowerCase());
+        collection.drop();
+        ids = "V7".equals(idVersion) ? UuidV7::generate : UUID::randomUUID;
+
+        for (int loaded = 0; loaded < preloaded; loaded += PRELOAD_BATCH) {
+            insert(Math.min(PRELOAD_BATCH, preloaded - loaded));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        collection.drop();
+        client.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH)
+    public void insertMany() {
+        insert(INSERT_BATCH);
+    }
+
+    private void insert(int count) {
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(new Document("_id", ids.get())
+                    .append("cpf", nextCpf++)
+                    .append("status", ConsentStatus.ACTIVE.name())
+                    .append("creationDateTime", CREATION)
+                    .append("expirationDateTime", EXPIRATION)
+                    .append("additionalInfo", "Termo de aceite digital")
+                    .append("version", 0L));
+        }
+        collection.insertMany(documents, new InsertManyOptions().ordered(false));
+    }
+
+}
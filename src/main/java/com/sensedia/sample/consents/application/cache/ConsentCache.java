@@ -0,0 +1,60 @@
+package com.sensedia.sample.consents.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class ConsentCache {
+
+    private static final String CACHE_NAME = "consents.by-id";
+
+    private final ConsentRepository repository;
+    private final Cache<UUID, Consent> cache;
+
+    public ConsentCache(ConsentRepository repository, ConsentCacheProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.repository = repository;
+        if (!properties.enabled()) {
+            log.info("Cache de consentimentos por ID desabilitado");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Consent> findById(UUID id) {
+        if (cache == null) {
+            return repository.findById(id);
+        }
+        return Optional.ofNullable(cache.get(id, key -> repository.findById(key).orElse(null)));
+    }
+
+    public void invalidate(UUID id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+}
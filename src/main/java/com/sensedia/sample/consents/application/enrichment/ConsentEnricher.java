@@ -0,0 +1,162 @@
+package com.sensedia.sample.consents.application.enrichment;
+
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentEnrichmentProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ConsentEnricher {
+
+    private static final String THREAD_PREFIX = "consent-enrichment-";
+
+    private final ConsentRepository repository;
+    private final GitHubClient gitHubClient;
+    private final ConsentCache consentCache;
+    private final ConsentEnrichmentProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Pending> backlog;
+    private final Counter completed;
+    private final Counter skipped;
+    private final Counter deferred;
+    private final Counter shed;
+    private final Counter failed;
+
+    public ConsentEnricher(ConsentRepository repository, GitHubClient gitHubClient, ConsentCache consentCache,
+                           ConsentEnrichmentProperties properties, MeterRegistry meterRegistry,
+                           Environment environment) {
+        this.repository = repository;
+        this.gitHubClient = gitHubClient;
+        this.consentCache = consentCache;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.concurrency(), properties.concurrency(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                threadFactory(environment),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.backlog = new ArrayBlockingQueue<>(properties.backlogCapacity());
+
+        Gauge.builder("consents.enrichment.queue.depth", executor, e -> e.getQueue().size())
+                .description("Consentimentos aguardando enriquecimento de 'additionalInfo'")
+                .register(meterRegistry);
+        Gauge.builder("consents.enrichment.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Enriquecimentos em execução")
+                .register(meterRegistry);
+        Gauge.builder("consents.enrichment.backlog.size", backlog, BlockingQueue::size)
+                .description("Consentimentos recusados pela fila cheia, aguardando nova tentativa")
+                .register(meterRegistry);
+        this.completed = meterRegistry.counter("consents.enrichment.tasks", "outcome", "completed");
+        this.skipped = meterRegistry.counter("consents.enrichment.tasks", "outcome", "skipped");
+        this.deferred = meterRegistry.counter("consents.enrichment.tasks", "outcome", "deferred");
+        this.shed = meterRegistry.counter("consents.enrichment.tasks", "outcome", "shed");
+        this.failed = meterRegistry.counter("consents.enrichment.tasks", "outcome", "failed");
+    }
+
+    private static ThreadFactory threadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(THREAD_PREFIX, 0).factory();
+        }
+        return new CustomizableThreadFactory(THREAD_PREFIX);
+    }
+
+    public boolean isAsync() {
+        return properties.async();
+    }
+
+    public void enrichLater(UUID consentId, String githubUsername) {
+        enrichLater(List.of(consentId), githubUsername);
+    }
+
+    public void enrichLater(Collection<UUID> consentIds, String githubUsername) {
+        if (consentIds.isEmpty()) return;
+        List<UUID> ids = List.copyOf(consentIds);
+        try {
+            executor.execute(() -> enrich(ids, githubUsername));
+        } catch (RejectedExecutionException ex) {
+            defer(ids, githubUsername);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${consents.enrichment.backlog-interval:30s}",
+            fixedDelayString = "${consents.enrichment.backlog-interval:30s}")
+    public void retryBacklog() {
+        List<Pending> pending = new ArrayList<>();
+        backlog.drainTo(pending);
+        if (pending.isEmpty()) return;
+        log.info("Reenviando {} consentimentos pendentes de enriquecimento", pending.size());
+        pending.stream()
+                .collect(Collectors.groupingBy(Pending::githubUsername,
+                        Collectors.mapping(Pending::consentId, Collectors.toList())))
+                .forEach((githubUsername, ids) -> enrichLater(ids, githubUsername));
+    }
+
+    private void defer(List<UUID> ids, String githubUsername) {
+        int dropped = 0;
+        for (UUID id : ids) {
+            if (backlog.offer(new Pending(id, githubUsername))) {
+                deferred.increment();
+            } else {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            shed.increment(dropped);
+            log.warn("Fila e backlog de enriquecimento cheios. {} consentimentos ficarão sem 'additionalInfo'", dropped);
+        } else {
+            log.debug("Fila de enriquecimento cheia. {} consentimentos adiados para a próxima tentativa", ids.size());
+        }
+    }
+
+    private void enrich(List<UUID> ids, String githubUsername) {
+        try {
+            String bio = gitHubClient.getUserBioOrDefault(githubUsername);
+            long updated = repository.setAdditionalInfoIfMissing(ids, bio);
+            ids.forEach(consentCache::invalidate);
+            completed.increment(updated);
+            skipped.increment(ids.size() - updated);
+            log.debug("Campo 'additionalInfo' preenchido em background em {} de {} consentimentos",
+                    updated, ids.size());
+        } catch (Exception ex) {
+            failed.increment(ids.size());
+            log.error("Erro ao enriquecer {} consentimentos. Primeiro ID: {}", ids.size(), ids.get(0), ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Encerrando enriquecimentos pendentes: {}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private record Pending(UUID consentId, String githubUsername) {
+    }
+
+}
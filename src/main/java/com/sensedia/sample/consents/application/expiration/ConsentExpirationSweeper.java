@@ -0,0 +1,127 @@
+package com.sensedia.sample.consents.application.expiration;
+
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.application.service.impl.ConsentHistoryFactory;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentExpirationProperties;
+import com.sensedia.sample.consents.infra.lease.LeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "consents.expiration", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConsentExpirationSweeper {
+
+    static final String LEASE_NAME = "consent-expiration-sweeper";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ConsentRepository repository;
+    private final ConsentHistoryRepository historyRepository;
+    private final ConsentCache consentCache;
+    private final LeaseManager leaseManager;
+    private final ConsentExpirationProperties properties;
+    private final String owner;
+    private final Counter expired;
+    private final Timer sweepTimer;
+
+    public ConsentExpirationSweeper(ConsentRepository repository, ConsentHistoryRepository historyRepository,
+                                    ConsentCache consentCache, LeaseManager leaseManager,
+                                    ConsentExpirationProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.historyRepository = historyRepository;
+        this.consentCache = consentCache;
+        this.leaseManager = leaseManager;
+        this.properties = properties;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "consents") + "-" + UUID.randomUUID();
+        this.expired = Counter.builder("consents.expiration.expired")
+                .description("Consentimentos marcados como EXPIRED pela varredura")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("consents.expiration.sweep")
+                .description("Duração de uma varredura de expiração")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${consents.expiration.interval:1m}",
+            fixedDelayString = "${consents.expiration.interval:1m}")
+    public void sweep() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, owner, properties.leaseTtl())) {
+            log.debug("Varredura de expiração em execução em outra instância");
+            return;
+        }
+        try {
+            sweepTimer.record(this::sweepBatches);
+        } finally {
+            leaseManager.release(LEASE_NAME, owner);
+        }
+    }
+
+    private void sweepBatches() {
+        long total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            List<Consent> candidates = repository.findExpiredActive(LocalDateTime.now(), properties.batchSize());
+            total += expire(candidates);
+            if (candidates.size() < properties.batchSize()) {
+                break;
+            }
+            if (!leaseManager.tryAcquire(LEASE_NAME, owner, properties.leaseTtl())) {
+                log.warn("Lease da varredura de expiração perdido. Interrompendo após {} consentimentos", total);
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Varredura de expiração concluída. Consentimentos expirados: {}", total);
+        }
+    }
+
+    private long expire(List<Consent> candidates) {
+        long total = 0;
+        List<Consent> pending = candidates;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            Set<UUID> matched = expireVersions(pending, now);
+            total += matched.size();
+            List<UUID> changed = pending.stream()
+                    .map(Consent::getId)
+                    .filter(id -> !matched.contains(id))
+                    .toList();
+            // Alterados entre a leitura e o update: relê a versão atual dos que continuam vencidos
+            pending = changed.isEmpty() ? List.of() : repository.findExpiredActive(changed, now);
+        }
+
+        expired.increment(total);
+        log.debug("Lote de expiração processado. Candidatos: {}, expirados: {}", candidates.size(), total);
+        return total;
+    }
+
+    private Set<UUID> expireVersions(List<Consent> candidates, LocalDateTime now) {
+        List<ConsentHistory> histories = candidates.stream()
+                .map(consent -> ConsentHistoryFactory.expired(consent, now))
+                .toList();
+
+        historyRepository.insertAllIgnoringDuplicates(histories);
+        Set<UUID> matched = repository.markExpired(candidates, now);
+        if (matched.size() < candidates.size()) {
+            historyRepository.deleteAllById(histories.stream()
+                    .filter(history -> !matched.contains(history.getConsentId()))
+                    .map(ConsentHistory::getId)
+                    .toList());
+        }
+        candidates.forEach(consent -> consentCache.invalidate(consent.getId()));
+        return matched;
+    }
+
+}
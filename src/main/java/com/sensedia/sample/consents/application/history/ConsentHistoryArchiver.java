@@ -0,0 +1,150 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryBucketRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.archive.HistoryBucketCodec;
+import com.sensedia.sample.consents.infra.config.properties.ConsentArchiveProperties;
+import com.sensedia.sample.consents.infra.lease.LeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "consents.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConsentHistoryArchiver {
+
+    static final String LEASE_NAME = "consent-history-archiver";
+
+    private final ConsentHistoryRepository historyRepository;
+    private final ConsentHistoryBucketRepository bucketRepository;
+    private final LeaseManager leaseManager;
+    private final ConsentArchiveProperties properties;
+    private final String owner;
+    private final Counter archived;
+    private final DistributionSummary compressedBytes;
+
+    public ConsentHistoryArchiver(ConsentHistoryRepository historyRepository,
+                                  ConsentHistoryBucketRepository bucketRepository, LeaseManager leaseManager,
+                                  ConsentArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.historyRepository = historyRepository;
+        this.bucketRepository = bucketRepository;
+        this.leaseManager = leaseManager;
+        this.properties = properties;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "consents") + "-" + UUID.randomUUID();
+        this.archived = Counter.builder("consents.archive.records")
+                .description("Registros de histórico movidos para o arquivo")
+                .register(meterRegistry);
+        this.compressedBytes = DistributionSummary.builder("consents.archive.bucket.size")
+                .description("Tamanho comprimido dos buckets de histórico gravados")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${consents.archive.interval:1h}",
+            fixedDelayString = "${consents.archive.interval:1h}")
+    public void archive() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, owner, properties.leaseTtl())) {
+            log.debug("Arquivamento de histórico em execução em outra instância");
+            return;
+        }
+        try {
+            LocalDateTime cutoff = cutoff(LocalDateTime.now());
+            long total = archiveOlderThan(cutoff);
+            if (total > 0) {
+                log.info("Arquivamento de histórico concluído. Registros anteriores a {}: {}", cutoff, total);
+            }
+        } finally {
+            leaseManager.release(LEASE_NAME, owner);
+        }
+    }
+
+    LocalDateTime cutoff(LocalDateTime now) {
+        return YearMonth.from(now.minus(properties.archiveAfter())).atDay(1).atStartOfDay();
+    }
+
+    long archiveOlderThan(LocalDateTime cutoff) {
+        long total = 0;
+        List<ConsentHistory> group = new ArrayList<>();
+        try (Stream<ConsentHistory> histories = historyRepository.streamOlderThan(cutoff)) {
+            Iterator<ConsentHistory> iterator = histories.iterator();
+            while (iterator.hasNext()) {
+                ConsentHistory history = iterator.next();
+                if (!group.isEmpty() && !sameBucket(group.get(0), history)) {
+                    total += flush(group);
+                    if (!canContinue(total)) {
+                        return total;
+                    }
+                }
+                group.add(history);
+                // Buckets grandes viram buckets de continuação; o que passar do limite da execução fica para a próxima
+                if (group.size() >= Math.min(properties.bucketMaxRecords(), properties.maxRecordsPerRun() - total)) {
+                    total += flush(group);
+                    if (!canContinue(total)) {
+                        return total;
+                    }
+                }
+            }
+        }
+        return total + flush(group);
+    }
+
+    private int flush(List<ConsentHistory> group) {
+        if (group.isEmpty()) return 0;
+        ConsentHistory first = group.get(0);
+        String month = YearMonth.from(first.getTimestamp()).toString();
+        byte[] payload = HistoryBucketCodec.encode(group);
+
+        bucketRepository.save(ConsentHistoryBucket.builder()
+                .id(first.getConsentId() + ":" + month + ":" + first.getId())
+                .consentId(first.getConsentId())
+                .cpf(first.getCpf())
+                .month(month)
+                .from(first.getTimestamp())
+                .to(group.get(group.size() - 1).getTimestamp())
+                .count(group.size())
+                .payload(payload)
+                .build());
+        historyRepository.deleteAllById(group.stream().map(ConsentHistory::getId).toList());
+
+        int count = group.size();
+        archived.increment(count);
+        compressedBytes.record(payload.length);
+        log.debug("Bucket de histórico arquivado. Consentimento: {}, mês: {}, registros: {}, bytes: {}",
+                first.getConsentId(), month, count, payload.length);
+        group.clear();
+        return count;
+    }
+
+    private boolean canContinue(long total) {
+        return total < properties.maxRecordsPerRun() && renewLease(total);
+    }
+
+    private boolean renewLease(long total) {
+        if (leaseManager.tryAcquire(LEASE_NAME, owner, properties.leaseTtl())) {
+            return true;
+        }
+        log.warn("Lease do arquivamento de histórico perdido. Interrompendo após {} registros", total);
+        return false;
+    }
+
+    private static boolean sameBucket(ConsentHistory a, ConsentHistory b) {
+        return a.getConsentId().equals(b.getConsentId())
+                && YearMonth.from(a.getTimestamp()).equals(YearMonth.from(b.getTimestamp()));
+    }
+
+}
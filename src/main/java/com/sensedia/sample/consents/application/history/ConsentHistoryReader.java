@@ -0,0 +1,84 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryBucketRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryFilter;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.config.MongoConfig;
+import com.sensedia.sample.consents.infra.util.UuidOrdering;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class ConsentHistoryReader {
+
+    private final ConsentHistoryRepository historyRepository;
+    private final ConsentHistoryBucketRepository bucketRepository;
+    private final Comparator<UUID> idOrder;
+    private final Comparator<ConsentHistory> chronological;
+
+    public ConsentHistoryReader(ConsentHistoryRepository historyRepository,
+                                ConsentHistoryBucketRepository bucketRepository) {
+        this.historyRepository = historyRepository;
+        this.bucketRepository = bucketRepository;
+        this.idOrder = UuidOrdering.asStoredBy(MongoConfig.UUID_REPRESENTATION);
+        this.chronological = Comparator.comparing(ConsentHistory::getTimestamp)
+                .thenComparing(ConsentHistory::getId, idOrder);
+    }
+
+    public List<ConsentHistory> findPageAfter(ConsentHistoryFilter filter, LocalDateTime lastTimestamp, UUID lastId,
+                                              int limit) {
+        List<ConsentHistory> hot = historyRepository.findPageAfter(filter, lastTimestamp, lastId, limit);
+        try (Stream<ConsentHistoryBucket> buckets = bucketRepository.streamOverlapping(filter,
+                lowerBound(filter, lastTimestamp))) {
+            MergingHistoryIterator merged = new MergingHistoryIterator(hot.iterator(), buckets.iterator(),
+                    archivedFilter(filter, lastTimestamp, lastId), chronological);
+            List<ConsentHistory> page = new ArrayList<>(limit);
+            while (page.size() < limit && merged.hasNext()) {
+                page.add(merged.next());
+            }
+            return page;
+        }
+    }
+
+    public Stream<ConsentHistory> stream(ConsentHistoryFilter filter) {
+        Stream<ConsentHistory> hot = historyRepository.stream(filter);
+        Stream<ConsentHistoryBucket> buckets = bucketRepository.streamOverlapping(filter, filter.from());
+        MergingHistoryIterator merged = new MergingHistoryIterator(hot.iterator(), buckets.iterator(),
+                archivedFilter(filter, null, null), chronological);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(hot::close)
+                .onClose(buckets::close);
+    }
+
+    private static LocalDateTime lowerBound(ConsentHistoryFilter filter, LocalDateTime lastTimestamp) {
+        if (lastTimestamp == null) return filter.from();
+        if (filter.from() == null || lastTimestamp.isAfter(filter.from())) return lastTimestamp;
+        return filter.from();
+    }
+
+    private Predicate<ConsentHistory> archivedFilter(ConsentHistoryFilter filter, LocalDateTime lastTimestamp,
+                                                     UUID lastId) {
+        return history -> {
+            LocalDateTime timestamp = history.getTimestamp();
+            if (filter.from() != null && timestamp.isBefore(filter.from())) return false;
+            if (filter.to() != null && !timestamp.isBefore(filter.to())) return false;
+            if (lastTimestamp == null) return true;
+            int byTime = timestamp.compareTo(lastTimestamp);
+            return byTime > 0 || (byTime == 0 && idOrder.compare(history.getId(), lastId) > 0);
+        };
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentHistoryProperties;
+import com.sensedia.sample.consents.infra.journal.ConsentHistoryJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class ConsentHistoryWriter {
+
+    private static final long RETRY_BACKOFF_MILLIS = 1_000;
+    private static final long NONE_IN_FLIGHT = Long.MIN_VALUE;
+
+    private final ConsentHistoryRepository repository;
+    private final ConsentHistoryProperties properties;
+    private final BlockingQueue<Entry> queue;
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private final DistributionSummary batchSize;
+    private final Timer flushTimer;
+    private final Counter flushed;
+    private final Counter fallback;
+    private final Counter failed;
+    private final Counter deadLettered;
+
+    private ConsentHistoryJournal journal;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile long oldestInFlight = NONE_IN_FLIGHT;
+
+    public ConsentHistoryWriter(ConsentHistoryRepository repository, ConsentHistoryProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("consents.history.queue.depth", queue, BlockingQueue::size)
+                .description("Registros de histórico aguardando gravação no MongoDB")
+                .register(meterRegistry);
+        Gauge.builder("consents.history.lag", this, ConsentHistoryWriter::lagSeconds)
+                .description("Idade do registro de histórico mais antigo ainda não gravado")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("consents.history.batch.size")
+                .description("Registros de histórico gravados por insertMany")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("consents.history.flush")
+                .description("Tempo de gravação de um lote de histórico")
+                .register(meterRegistry);
+        this.flushed = meterRegistry.counter("consents.history.records", "outcome", "flushed");
+        this.fallback = meterRegistry.counter("consents.history.records", "outcome", "fallback");
+        this.failed = meterRegistry.counter("consents.history.records", "outcome", "failed");
+        this.deadLettered = meterRegistry.counter("consents.history.records", "outcome", "dead_letter");
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!properties.writeBehind()) {
+            log.info("Histórico de consentimentos será gravado de forma síncrona");
+            return;
+        }
+        Path journalDir = properties.journalDir();
+        if (journalDir == null || !journalDir.isAbsolute()) {
+            throw new IllegalStateException("consents.history.journal-dir deve ser um caminho absoluto quando "
+                    + "consents.history.write-behind está ativo: " + journalDir);
+        }
+        journal = new ConsentHistoryJournal(properties.journalDir(), properties.journalSegmentMaxBytes(),
+                properties.journalFsync());
+        running = true;
+        flusher = new Thread(this::run, "consent-history-flusher");
+        flusher.start();
+    }
+
+    public void write(ConsentHistory history) {
+        if (!running) {
+            repository.save(history);
+            return;
+        }
+        enqueueLock.lock();
+        try {
+            if (queue.remainingCapacity() > 0) {
+                queue.add(new Entry(history, journal.append(history), System.nanoTime()));
+                return;
+            }
+            log.warn("Fila de histórico cheia. Gravando registro de forma síncrona. ID: {}", history.getConsentId());
+        } catch (IOException ex) {
+            log.warn("Falha ao registrar histórico no journal. Gravando de forma síncrona: {}", ex.getMessage());
+        } finally {
+            enqueueLock.unlock();
+        }
+        fallback.increment();
+        repository.save(history);
+    }
+
+    private void run() {
+        replayRecoveredSegments();
+        List<Entry> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                if (nextBatch(batch)) {
+                    flush(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+                oldestInFlight = NONE_IN_FLIGHT;
+            }
+        }
+    }
+
+    private boolean nextBatch(List<Entry> batch) throws InterruptedException {
+        Entry first = queue.poll(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        oldestInFlight = first.enqueuedAt();
+
+        long deadline = System.nanoTime() + properties.flushInterval().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            if (queue.drainTo(batch, properties.batchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                break;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    private void flush(List<Entry> batch) throws InterruptedException {
+        List<ConsentHistory> histories = new ArrayList<>(batch.size());
+        Map<ConsentHistoryJournal.Segment, Integer> perSegment = new IdentityHashMap<>();
+        for (Entry entry : batch) {
+            histories.add(entry.history());
+            perSegment.merge(entry.segment(), 1, Integer::sum);
+        }
+
+        if (write(histories)) {
+            perSegment.forEach(journal::acknowledge);
+        }
+    }
+
+    private void replayRecoveredSegments() {
+        for (Path segment : journal.recoveredSegments()) {
+            try {
+                List<ConsentHistory> histories = journal.read(segment);
+                log.info("Reprocessando journal de histórico {}. Registros: {}", segment.getFileName(), histories.size());
+                boolean released = true;
+                for (int from = 0; from < histories.size(); from += properties.batchSize()) {
+                    List<ConsentHistory> chunk = histories.subList(from,
+                            Math.min(from + properties.batchSize(), histories.size()));
+                    released &= write(chunk);
+                }
+                if (released) {
+                    journal.delete(segment);
+                }
+            } catch (IOException ex) {
+                log.error("Não foi possível reprocessar o journal de histórico {}", segment.getFileName(), ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean write(List<ConsentHistory> histories) throws InterruptedException {
+        if (insertWithRetry(histories)) {
+            flushed.increment(histories.size());
+            batchSize.record(histories.size());
+            log.debug("Lote de histórico gravado. Registros: {}", histories.size());
+            return true;
+        }
+        try {
+            Path deadLetter = journal.deadLetter(histories);
+            deadLettered.increment(histories.size());
+            log.error("Lote de histórico movido para o dead-letter {}. Registros: {}",
+                    deadLetter.getFileName(), histories.size());
+            return true;
+        } catch (IOException ex) {
+            log.error("Não foi possível gravar o dead-letter de histórico. Registros mantidos no journal", ex);
+            return false;
+        }
+    }
+
+    private boolean insertWithRetry(List<ConsentHistory> histories) throws InterruptedException {
+        boolean counted = false;
+        while (true) {
+            try {
+                flushTimer.record(() -> repository.insertAllIgnoringDuplicates(histories));
+                return true;
+            } catch (RuntimeException ex) {
+                if (!counted) {
+                    failed.increment(histories.size());
+                    counted = true;
+                }
+                if (!isTransient(ex)) {
+                    log.error("Erro não recuperável ao gravar lote de histórico ({} registros)", histories.size(), ex);
+                    return false;
+                }
+                log.warn("Erro transitório ao gravar lote de histórico ({} registros). Nova tentativa em {} ms: {}",
+                        histories.size(), RETRY_BACKOFF_MILLIS, ex.getMessage());
+                if (!running) {
+                    throw new InterruptedException("Gravação de histórico interrompida; registros mantidos no journal");
+                }
+                Thread.sleep(RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof MongoSocketException
+                    || cause instanceof MongoTimeoutException
+                    || cause instanceof MongoExecutionTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double lagSeconds() {
+        long since = oldestInFlight;
+        if (since == NONE_IN_FLIGHT) {
+            Entry head = queue.peek();
+            if (head == null) {
+                return 0;
+            }
+            since = head.enqueuedAt();
+        }
+        return (System.nanoTime() - since) / 1_000_000_000.0;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException, IOException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        if (flusher.isAlive()) {
+            log.warn("Encerrando gravação de histórico pendente. Registros no journal serão reprocessados: {}",
+                    queue.size());
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(1));
+        }
+        journal.close();
+    }
+
+    private record Entry(ConsentHistory history, ConsentHistoryJournal.Segment segment, long enqueuedAt) {
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.infra.archive.HistoryBucketCodec;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+class MergingHistoryIterator implements Iterator<ConsentHistory> {
+
+    private final Iterator<ConsentHistory> hot;
+    private final Iterator<ConsentHistoryBucket> buckets;
+    private final Predicate<ConsentHistory> archivedFilter;
+    private final Comparator<ConsentHistory> chronological;
+    private final PriorityQueue<ConsentHistory> archived;
+
+    private ConsentHistory hotHead;
+    private ConsentHistoryBucket nextBucket;
+    private ConsentHistory next;
+    private LocalDateTime lastTimestamp;
+    private UUID lastId;
+
+    MergingHistoryIterator(Iterator<ConsentHistory> hot, Iterator<ConsentHistoryBucket> buckets,
+                           Predicate<ConsentHistory> archivedFilter, Comparator<ConsentHistory> chronological) {
+        this.hot = hot;
+        this.buckets = buckets;
+        this.archivedFilter = archivedFilter;
+        this.chronological = chronological;
+        this.archived = new PriorityQueue<>(chronological);
+        this.hotHead = hot.hasNext() ? hot.next() : null;
+        this.nextBucket = buckets.hasNext() ? buckets.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            ConsentHistory candidate = poll();
+            if (candidate == null) {
+                return false;
+            }
+            if (!candidate.getTimestamp().equals(lastTimestamp) || !candidate.getId().equals(lastId)) {
+                next = candidate;
+                lastTimestamp = candidate.getTimestamp();
+                lastId = candidate.getId();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ConsentHistory next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ConsentHistory current = next;
+        next = null;
+        return current;
+    }
+
+    private ConsentHistory poll() {
+        loadBucketsStartingBefore(head());
+        ConsentHistory archivedHead = archived.peek();
+        if (hotHead != null && (archivedHead == null || chronological.compare(hotHead, archivedHead) <= 0)) {
+            ConsentHistory current = hotHead;
+            hotHead = hot.hasNext() ? hot.next() : null;
+            return current;
+        }
+        return archived.poll();
+    }
+
+    private ConsentHistory head() {
+        ConsentHistory archivedHead = archived.peek();
+        if (hotHead == null) return archivedHead;
+        if (archivedHead == null) return hotHead;
+        return chronological.compare(hotHead, archivedHead) <= 0 ? hotHead : archivedHead;
+    }
+
+    private void loadBucketsStartingBefore(ConsentHistory head) {
+        while (nextBucket != null && (head == null || !nextBucket.getFrom().isAfter(head.getTimestamp()))) {
+            for (ConsentHistory history : HistoryBucketCodec.decode(nextBucket)) {
+                if (archivedFilter.test(history)) {
+                    archived.add(history);
+                }
+            }
+            nextBucket = buckets.hasNext() ? buckets.next() : null;
+            head = head();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.sensedia.sample.consents.application.service;
+
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ConsentHistoryService {
+
+    CursorPageResponseDTO<ConsentHistoryResponseDTO> getHistoryByConsentId(UUID consentId, LocalDateTime from,
+                                                                           LocalDateTime to, String cursor, int size);
+
+    CursorPageResponseDTO<ConsentHistoryResponseDTO> getHistoryByCpf(String cpf, LocalDateTime from, LocalDateTime to,
+                                                                     String cursor, int size);
+
+    Stream<ConsentHistoryResponseDTO> streamHistoryByConsentId(UUID consentId, LocalDateTime from, LocalDateTime to);
+
+    Stream<ConsentHistoryResponseDTO> streamHistoryByCpf(String cpf, LocalDateTime from, LocalDateTime to);
+
+}
@@ -1,25 +1,42 @@
 package com.sensedia.sample.consents.application.service;
 
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
 import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ConsentService {
 
     ConsentResponseDTO createConsent(ConsentRequestDTO request);
 
-    List<ConsentResponseDTO> getAllConsents();
+    ConsentBatchResponseDTO createConsentsBatch(List<ConsentRequestDTO> requests);
 
-    PageResponseDTO<ConsentResponseDTO> getAllConsentsPaged(int page, int size);
+    List<ConsentResponseDTO> getAllConsents(ConsentProjection projection);
+
+    Stream<ConsentResponseDTO> streamAllConsents(ConsentProjection projection);
+
+    PageResponseDTO<ConsentResponseDTO> getAllConsentsPaged(int page, int size, ConsentProjection projection);
+
+    CursorPageResponseDTO<ConsentResponseDTO> getConsentsByCursor(String cursor, int size, boolean includeTotal,
+                                                                  ConsentProjection projection);
+
+    CursorPageResponseDTO<ConsentResponseDTO> searchConsents(ConsentSearchFilter filter, String cursor, int size,
+                                                             CountMode countMode, ConsentProjection projection);
 
     ConsentResponseDTO getConsentById(UUID id);
 
-    ConsentResponseDTO updateConsent(UUID id, ConsentUpdateDTO request);
+    ConsentResponseDTO updateConsent(UUID id, ConsentUpdateDTO request, Collection<Long> expectedVersions);
 
-    void deleteConsent(UUID id);
+    void deleteConsent(UUID id, Collection<Long> expectedVersions);
 
 }
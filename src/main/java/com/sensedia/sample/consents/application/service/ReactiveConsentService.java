@@ -0,0 +1,41 @@
+package com.sensedia.sample.consents.application.service;
+
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveConsentService {
+
+    Mono<ConsentResponseDTO> createConsent(ConsentRequestDTO request);
+
+    Mono<ConsentBatchResponseDTO> createConsentsBatch(List<ConsentRequestDTO> requests);
+
+    Flux<ConsentResponseDTO> getAllConsents(ConsentProjection projection);
+
+    Mono<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(int page, int size, ConsentProjection projection);
+
+    Mono<CursorPageResponseDTO<ConsentResponseDTO>> getConsentsByCursor(String cursor, int size, boolean includeTotal,
+                                                                        ConsentProjection projection);
+
+    Mono<CursorPageResponseDTO<ConsentResponseDTO>> searchConsents(ConsentSearchFilter filter, String cursor, int size,
+                                                                   CountMode countMode, ConsentProjection projection);
+
+    Mono<ConsentResponseDTO> getConsentById(UUID id);
+
+    Mono<ConsentResponseDTO> updateConsent(UUID id, ConsentUpdateDTO request, Collection<Long> expectedVersions);
+
+    Mono<Void> deleteConsent(UUID id, Collection<Long> expectedVersions);
+
+}
@@ -0,0 +1,86 @@
+package com.sensedia.sample.consents.application.service.impl;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchItemResultDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+final class ConsentBatch {
+
+    private final List<ConsentRequestDTO> requests;
+    private final ConsentBatchItemResultDTO[] results;
+    private final List<Integer> candidateIndexes = new ArrayList<>();
+    private final Set<Cpf> cpfs = new HashSet<>();
+    private final List<Integer> insertIndexes = new ArrayList<>();
+    private final List<Consent> toInsert = new ArrayList<>();
+
+    ConsentBatch(List<ConsentRequestDTO> requests, Validator validator) {
+        this.requests = requests;
+        this.results = new ConsentBatchItemResultDTO[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            ConsentRequestDTO request = requests.get(i);
+            List<String> errors = validate(request, validator);
+            if (!errors.isEmpty()) {
+                results[i] = ConsentBatchItemResultDTO.invalid(i, request == null ? null : request.cpf(), errors);
+            } else if (!cpfs.add(Cpf.parse(request.cpf()))) {
+                results[i] = ConsentBatchItemResultDTO.duplicate(i, request.cpf());
+            } else {
+                candidateIndexes.add(i);
+            }
+        }
+    }
+
+    Set<Cpf> cpfs() {
+        return cpfs;
+    }
+
+    List<Consent> toInsert(Set<Cpf> existingCpfs, Function<ConsentRequestDTO, Consent> toEntity) {
+        for (int index : candidateIndexes) {
+            ConsentRequestDTO request = requests.get(index);
+            if (existingCpfs.contains(Cpf.parse(request.cpf()))) {
+                results[index] = ConsentBatchItemResultDTO.duplicate(index, request.cpf());
+                continue;
+            }
+            Consent consent = toEntity.apply(request);
+            consent.setCreationDateTime(LocalDateTime.now());
+            insertIndexes.add(index);
+            toInsert.add(consent);
+        }
+        return toInsert;
+    }
+
+    ConsentBatchResponseDTO complete(Set<Integer> rejected) {
+        for (int i = 0; i < toInsert.size(); i++) {
+            int index = insertIndexes.get(i);
+            String cpf = requests.get(index).cpf();
+            results[index] = rejected.contains(i)
+                    ? ConsentBatchItemResultDTO.duplicate(index, cpf)
+                    : ConsentBatchItemResultDTO.created(index, cpf, toInsert.get(i).getId());
+        }
+        return ConsentBatchResponseDTO.of(List.of(results));
+    }
+
+    private static List<String> validate(ConsentRequestDTO request, Validator validator) {
+        if (request == null) {
+            return List.of("Item do lote não pode ser nulo");
+        }
+        return validator.validate(request).stream()
+                .map(ConsentBatch::formatViolation)
+                .toList();
+    }
+
+    private static String formatViolation(ConstraintViolation<ConsentRequestDTO> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.sensedia.sample.consents.application.service.impl;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public final class ConsentHistoryFactory {
+
+    public static final String OPERATION_DELETED = "DELETED";
+    public static final String OPERATION_UPDATED = "UPDATED";
+    public static final String OPERATION_EXPIRED = "EXPIRED";
+
+    private ConsentHistoryFactory() {
+    }
+
+    public static ConsentHistory from(Consent consent, String operation) {
+        ConsentStatus statusToSave = operation.equalsIgnoreCase(OPERATION_DELETED)
+                ? ConsentStatus.REVOKED
+                : consent.getStatus();
+
+        return ConsentHistory.builder()
+                .consentId(consent.getId())
+                .cpf(consent.getCpf())
+                .status(statusToSave)
+                .expirationDateTime(consent.getExpirationDateTime())
+                .additionalInfo(consent.getAdditionalInfo())
+                .operation(operation)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static ConsentHistory expired(Consent consent, LocalDateTime timestamp) {
+        String key = consent.getId() + ":" + consent.getVersion() + ":" + consent.getExpirationDateTime()
+                + ":" + OPERATION_EXPIRED;
+        return ConsentHistory.builder()
+                .id(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)))
+                .consentId(consent.getId())
+                .cpf(consent.getCpf())
+                .status(ConsentStatus.EXPIRED)
+                .expirationDateTime(consent.getExpirationDateTime())
+                .additionalInfo(consent.getAdditionalInfo())
+                .operation(OPERATION_EXPIRED)
+                .timestamp(timestamp)
+                .build();
+    }
+
+}
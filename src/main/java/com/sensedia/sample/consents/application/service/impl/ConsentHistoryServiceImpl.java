@@ -0,0 +1,106 @@
+package com.sensedia.sample.consents.application.service.impl;
+
+import com.sensedia.sample.consents.application.history.ConsentHistoryReader;
+import com.sensedia.sample.consents.application.service.ConsentHistoryService;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryFilter;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
+import com.sensedia.sample.consents.infra.util.CursorUtils.TimestampCursor;
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "consents.service", description = "Latência das operações do serviço de consentimentos", histogram = true)
+public class ConsentHistoryServiceImpl implements ConsentHistoryService {
+
+    private final ConsentHistoryReader reader;
+    private final ConsentMapper mapper;
+
+    @Override
+    public CursorPageResponseDTO<ConsentHistoryResponseDTO> getHistoryByConsentId(UUID consentId, LocalDateTime from,
+                                                                                  LocalDateTime to, String cursor,
+                                                                                  int size) {
+        log.debug("Buscando histórico do consentimento ID: {}. Cursor: {}, Tamanho: {}", consentId, cursor, size);
+        return findPage(ConsentHistoryFilter.byConsentId(consentId, from, to), cursor, size);
+    }
+
+    @Override
+    public CursorPageResponseDTO<ConsentHistoryResponseDTO> getHistoryByCpf(String cpf, LocalDateTime from,
+                                                                            LocalDateTime to, String cursor, int size) {
+        log.debug("Buscando histórico por CPF: {}. Cursor: {}, Tamanho: {}", maskCpf(cpf), cursor, size);
+        return findPage(ConsentHistoryFilter.byCpf(parseCpf(cpf), from, to), cursor, size);
+    }
+
+    @Override
+    public Stream<ConsentHistoryResponseDTO> streamHistoryByConsentId(UUID consentId, LocalDateTime from,
+                                                                      LocalDateTime to) {
+        log.debug("Abrindo cursor para streaming do histórico do consentimento ID: {}", consentId);
+        return stream(ConsentHistoryFilter.byConsentId(consentId, from, to));
+    }
+
+    @Override
+    public Stream<ConsentHistoryResponseDTO> streamHistoryByCpf(String cpf, LocalDateTime from, LocalDateTime to) {
+        log.debug("Abrindo cursor para streaming do histórico por CPF: {}", maskCpf(cpf));
+        return stream(ConsentHistoryFilter.byCpf(parseCpf(cpf), from, to));
+    }
+
+    private CursorPageResponseDTO<ConsentHistoryResponseDTO> findPage(ConsentHistoryFilter filter, String cursor,
+                                                                      int size) {
+        validateRange(filter);
+        TimestampCursor last = CursorUtils.decodeTimestampCursor(cursor);
+        List<ConsentHistory> histories = last == null
+                ? reader.findPageAfter(filter, null, null, size + 1)
+                : reader.findPageAfter(filter, last.timestamp(), last.id(), size + 1);
+
+        boolean hasNext = histories.size() > size;
+        List<ConsentHistory> pageItems = hasNext ? histories.subList(0, size) : histories;
+
+        List<ConsentHistoryResponseDTO> content = pageItems.stream()
+                .map(mapper::toHistoryResponseDTO)
+                .toList();
+
+        String nextCursor = hasNext ? cursorOf(pageItems.get(pageItems.size() - 1)) : null;
+        return new CursorPageResponseDTO<>(content, size, nextCursor, null);
+    }
+
+    private Stream<ConsentHistoryResponseDTO> stream(ConsentHistoryFilter filter) {
+        validateRange(filter);
+        return Stream.of(filter)
+                .flatMap(reader::stream)
+                .map(mapper::toHistoryResponseDTO);
+    }
+
+    private static String cursorOf(ConsentHistory last) {
+        return CursorUtils.encode(last.getTimestamp(), last.getId());
+    }
+
+    private static Cpf parseCpf(String cpf) {
+        if (!Cpf.isValid(cpf)) {
+            throw new InvalidFilterException("CPF inválido para consulta de histórico");
+        }
+        return Cpf.parse(cpf);
+    }
+
+    private static void validateRange(ConsentHistoryFilter filter) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new InvalidFilterException("O início do período ('from') deve ser anterior ao fim ('to')");
+        }
+    }
+
+}
@@ -1,75 +1,154 @@
 package com.sensedia.sample.consents.application.service.impl;
 
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.application.enrichment.ConsentEnricher;
+import com.sensedia.sample.consents.application.history.ConsentHistoryWriter;
 import com.sensedia.sample.consents.application.service.ConsentService;
-import com.sensedia.sample.consents.domain.enums.ConsentStatus;
 import com.sensedia.sample.consents.domain.model.Consent;
-import com.sensedia.sample.consents.domain.model.ConsentHistory;
-import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
 import com.sensedia.sample.consents.domain.repository.ConsentRepository;
 import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentBatchProperties;
+import com.sensedia.sample.consents.infra.config.properties.ConsentSearchProperties;
+import com.sensedia.sample.consents.infra.metrics.ConsentOutcomeMetrics;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
+import com.sensedia.sample.consents.infra.util.CursorUtils.TimestampCursor;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
 import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.BatchLimitExceededException;
 import com.sensedia.sample.consents.rest.exception.ConsentNotFoundException;
 import com.sensedia.sample.consents.rest.exception.DuplicateCpfException;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import com.sensedia.sample.consents.rest.exception.PreconditionFailedException;
 import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.sensedia.sample.consents.application.service.impl.ConsentHistoryFactory.OPERATION_DELETED;
+import static com.sensedia.sample.consents.application.service.impl.ConsentHistoryFactory.OPERATION_UPDATED;
 import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "consents.service", description = "Latência das operações do serviço de consentimentos", histogram = true)
 public class ConsentServiceImpl implements ConsentService {
 
-    private static final String OPERATION_DELETED = "DELETED";
-    private static final String OPERATION_UPDATED = "UPDATED";
+    private static final String GITHUB_USERNAME = "fsousa1987";
 
     private final ConsentRepository repository;
     private final ConsentMapper mapper;
-    private final ConsentHistoryRepository historyRepository;
+    private final ConsentHistoryWriter historyWriter;
     private final GitHubClient gitHubClient;
+    private final Validator validator;
+    private final ConsentBatchProperties batchProperties;
+    private final ConsentSearchProperties searchProperties;
+    private final ConsentEnricher enricher;
+    private final ConsentCache consentCache;
+    private final ConsentOutcomeMetrics outcomeMetrics;
 
     @Override
     public ConsentResponseDTO createConsent(ConsentRequestDTO request) {
         log.info("Iniciando criação de consentimento para CPF: {}", maskCpf(request.cpf()));
-        validateDuplicateCpf(request.cpf());
 
         Consent consent = mapper.toEntity(request);
         consent.setCreationDateTime(LocalDateTime.now());
 
-        fillAdditionalInfoIfMissing(consent);
+        boolean enrichLater = fillAdditionalInfoIfMissing(consent);
 
-        Consent saved = repository.save(consent);
+        Consent saved = insertUnique(consent, request.cpf());
         log.info("Consentimento criado com sucesso. ID: {}", saved.getId());
 
+        if (enrichLater) {
+            enricher.enrichLater(saved.getId(), GITHUB_USERNAME);
+        }
+
         return mapper.toResponseDTO(saved);
     }
 
     @Override
-    public List<ConsentResponseDTO> getAllConsents() {
+    public ConsentBatchResponseDTO createConsentsBatch(List<ConsentRequestDTO> requests) {
+        log.info("Iniciando criação de consentimentos em lote. Itens: {}", requests.size());
+        if (requests.size() > batchProperties.maxSize()) {
+            throw new BatchLimitExceededException("O lote excede o limite de " + batchProperties.maxSize() + " itens");
+        }
+
+        ConsentBatch batch = new ConsentBatch(requests, validator);
+        List<Consent> toInsert = batch.toInsert(repository.findExistingCpfs(batch.cpfs()), mapper::toEntity);
+        Set<Integer> enrichLater = new HashSet<>();
+        String defaultAdditionalInfo = null;
+
+        for (int i = 0; i < toInsert.size(); i++) {
+            Consent consent = toInsert.get(i);
+            if (consent.getAdditionalInfo() != null && !consent.getAdditionalInfo().isBlank()) {
+                continue;
+            }
+            if (enricher.isAsync()) {
+                enrichLater.add(i);
+            } else {
+                if (defaultAdditionalInfo == null) {
+                    log.info("Itens do lote sem 'additionalInfo'. Buscando bio via API do GitHub...");
+                    defaultAdditionalInfo = gitHubClient.getUserBioOrDefault(GITHUB_USERNAME);
+                }
+                consent.setAdditionalInfo(defaultAdditionalInfo);
+            }
+        }
+
+        Set<Integer> rejected = repository.insertAllUnordered(toInsert);
+        enricher.enrichLater(enrichLater.stream()
+                .filter(i -> !rejected.contains(i))
+                .map(i -> toInsert.get(i).getId())
+                .toList(), GITHUB_USERNAME);
+
+        ConsentBatchResponseDTO response = batch.complete(rejected);
+        outcomeMetrics.duplicateCpf(response.duplicates());
+        log.info("Lote processado. Criados: {}, Duplicados: {}, Inválidos: {}",
+                response.created(), response.duplicates(), response.invalid());
+        return response;
+    }
+
+    @Override
+    public List<ConsentResponseDTO> getAllConsents(ConsentProjection projection) {
         log.debug("Buscando todos os consentimentos...");
-        return repository.findAll().stream()
+        return repository.findAll(projection).stream()
                 .map(mapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public PageResponseDTO<ConsentResponseDTO> getAllConsentsPaged(int page, int size) {
+    public Stream<ConsentResponseDTO> streamAllConsents(ConsentProjection projection) {
+        log.debug("Abrindo cursor para streaming de todos os consentimentos...");
+        return repository.streamAll(projection)
+                .map(mapper::toResponseDTO);
+    }
+
+    @Override
+    public PageResponseDTO<ConsentResponseDTO> getAllConsentsPaged(int page, int size, ConsentProjection projection) {
         log.debug("Buscando consentimentos paginados. Página: {}, Tamanho: {}", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        Page<Consent> consentPage = repository.findAll(pageable);
+        Page<Consent> consentPage = repository.findPage(pageable, projection);
 
         List<ConsentResponseDTO> content = consentPage.getContent().stream()
                 .map(mapper::toResponseDTO)
@@ -84,20 +163,73 @@ public class ConsentServiceImpl implements ConsentService {
         );
     }
 
+    @Override
+    public CursorPageResponseDTO<ConsentResponseDTO> getConsentsByCursor(String cursor, int size, boolean includeTotal,
+                                                                         ConsentProjection projection) {
+        log.debug("Buscando consentimentos por cursor. Cursor: {}, Tamanho: {}", cursor, size);
+        UUID lastId = CursorUtils.decode(cursor);
+        List<Consent> consents = repository.findPageAfter(lastId, size + 1, projection);
+
+        boolean hasNext = consents.size() > size;
+        List<Consent> pageItems = hasNext ? consents.subList(0, size) : consents;
+
+        List<ConsentResponseDTO> content = pageItems.stream()
+                .map(mapper::toResponseDTO)
+                .toList();
+
+        String nextCursor = hasNext ? CursorUtils.encode(pageItems.get(pageItems.size() - 1).getId()) : null;
+        Long totalElements = includeTotal ? repository.countAll() : null;
+
+        return new CursorPageResponseDTO<>(content, size, nextCursor, totalElements);
+    }
+
+    @Override
+    public CursorPageResponseDTO<ConsentResponseDTO> searchConsents(ConsentSearchFilter filter, String cursor, int size,
+                                                                    CountMode countMode, ConsentProjection projection) {
+        log.debug("Buscando consentimentos filtrados: {}. Cursor: {}, Tamanho: {}", filter, cursor, size);
+        validateSearch(filter, countMode);
+        TimestampCursor last = CursorUtils.decodeTimestampCursor(cursor);
+        List<Consent> consents = last == null
+                ? repository.search(filter, null, null, size + 1, projection.including(filter.sortField()))
+                : repository.search(filter, last.timestamp(), last.id(), size + 1,
+                        projection.including(filter.sortField()));
+
+        boolean hasNext = consents.size() > size;
+        List<Consent> pageItems = hasNext ? consents.subList(0, size) : consents;
+
+        List<ConsentResponseDTO> content = pageItems.stream()
+                .map(mapper::toResponseDTO)
+                .toList();
+
+        String nextCursor = hasNext ? searchCursorOf(filter, pageItems.get(pageItems.size() - 1)) : null;
+
+        return switch (countMode) {
+            case NONE -> new CursorPageResponseDTO<>(content, size, nextCursor, null);
+            case EXACT -> new CursorPageResponseDTO<>(content, size, nextCursor, repository.countMatching(filter, 0));
+            case ESTIMATED -> new CursorPageResponseDTO<>(content, size, nextCursor, repository.estimatedCount());
+            case CAPPED -> {
+                int cap = searchProperties.countCap();
+                long total = repository.countMatching(filter, cap);
+                yield new CursorPageResponseDTO<>(content, size, nextCursor, total, total >= cap);
+            }
+        };
+    }
+
     @Override
     public ConsentResponseDTO getConsentById(UUID id) {
         log.debug("Buscando consentimento por ID: {}", id);
-        Consent consent = verifyIfConsentExists(id);
+        Consent consent = consentCache.findById(id)
+                .orElseThrow(() -> consentNotFound(id));
         return mapper.toResponseDTO(consent);
     }
 
     @Override
-    public ConsentResponseDTO updateConsent(UUID id, ConsentUpdateDTO request) {
+    public ConsentResponseDTO updateConsent(UUID id, ConsentUpdateDTO request, Collection<Long> expectedVersions) {
         log.info("Atualizando consentimento ID: {}", id);
-        Consent existing = verifyIfConsentExists(id);
-        mapper.updateEntityFromDto(request, existing);
-
-        Consent saved = repository.save(existing);
+        Consent saved = repository.updateAndGet(id, request.status(), request.expirationDateTime(),
+                        request.additionalInfo(), expectedVersions)
+                .orElseThrow(() -> notFoundOrStale(id, expectedVersions));
+        consentCache.invalidate(id);
         saveHistory(saved, OPERATION_UPDATED);
         log.info("Consentimento atualizado com sucesso. ID: {}", saved.getId());
 
@@ -105,52 +237,75 @@ public class ConsentServiceImpl implements ConsentService {
     }
 
     @Override
-    public void deleteConsent(UUID id) {
+    public void deleteConsent(UUID id, Collection<Long> expectedVersions) {
         log.info("Revogando consentimento ID: {}", id);
-        Consent existing = verifyIfConsentExists(id);
-        saveHistory(existing, OPERATION_DELETED);
-        repository.deleteById(id);
+        Consent removed = repository.deleteAndGet(id, expectedVersions)
+                .orElseThrow(() -> notFoundOrStale(id, expectedVersions));
+        consentCache.invalidate(id);
+        saveHistory(removed, OPERATION_DELETED);
         log.info("Consentimento revogado com sucesso. ID: {}", id);
     }
 
-    private void validateDuplicateCpf(String cpf) {
-        if (repository.existsByCpf(cpf)) {
+    static void validateSearch(ConsentSearchFilter filter, CountMode countMode) {
+        if (isEmptyRange(filter.expiresFrom(), filter.expiresTo())
+                || isEmptyRange(filter.createdFrom(), filter.createdTo())) {
+            throw new InvalidFilterException("O início de cada período deve ser anterior ao fim");
+        }
+        if (countMode == CountMode.ESTIMATED && !filter.isUnfiltered()) {
+            throw new InvalidFilterException("count=ESTIMATED só é aceito sem filtros; use CAPPED ou EXACT");
+        }
+    }
+
+    private static boolean isEmptyRange(LocalDateTime from, LocalDateTime to) {
+        return from != null && to != null && !from.isBefore(to);
+    }
+
+    static String searchCursorOf(ConsentSearchFilter filter, Consent last) {
+        LocalDateTime value = filter.sortsByExpiration() ? last.getExpirationDateTime() : last.getCreationDateTime();
+        return CursorUtils.encode(value, last.getId());
+    }
+
+    private Consent insertUnique(Consent consent, String cpf) {
+        try {
+            return repository.insert(consent);
+        } catch (DuplicateKeyException ex) {
             log.warn("Tentativa de criação de consentimento com CPF duplicado: {}", maskCpf(cpf));
+            outcomeMetrics.duplicateCpf();
             throw new DuplicateCpfException("Já existe um consentimento com este CPF: " + cpf);
         }
     }
 
-    private Consent verifyIfConsentExists(UUID id) {
-        return repository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Consentimento não encontrado para o ID: {}", id);
-                    return new ConsentNotFoundException("Consentimento não encontrado para o ID: " + id);
-                });
+    private RuntimeException notFoundOrStale(UUID id, Collection<Long> expectedVersions) {
+        if (expectedVersions != null && repository.existsById(id)) {
+            log.warn("Versão informada em If-Match não corresponde à atual. ID: {}", id);
+            outcomeMetrics.preconditionFailed();
+            return new PreconditionFailedException("O consentimento foi alterado por outra requisição. ID: " + id);
+        }
+        return consentNotFound(id);
     }
 
-    private void saveHistory(Consent consent, String operation) {
-        ConsentStatus statusToSave = operation.equalsIgnoreCase(OPERATION_DELETED)
-                ? ConsentStatus.REVOKED
-                : consent.getStatus();
+    private ConsentNotFoundException consentNotFound(UUID id) {
+        log.warn("Consentimento não encontrado para o ID: {}", id);
+        outcomeMetrics.notFound();
+        return new ConsentNotFoundException("Consentimento não encontrado para o ID: " + id);
+    }
 
+    private void saveHistory(Consent consent, String operation) {
         log.debug("Registrando histórico de operação '{}'. ID: {}", operation, consent.getId());
+        historyWriter.write(ConsentHistoryFactory.from(consent, operation));
+    }
 
-        historyRepository.save(ConsentHistory.builder()
-                .consentId(consent.getId())
-                .cpf(consent.getCpf())
-                .status(statusToSave)
-                .expirationDateTime(consent.getExpirationDateTime())
-                .additionalInfo(consent.getAdditionalInfo())
-                .operation(operation)
-                .timestamp(LocalDateTime.now())
-                .build());
-    }
-
-    private void fillAdditionalInfoIfMissing(Consent consent) {
-        if (consent.getAdditionalInfo() == null || consent.getAdditionalInfo().isBlank()) {
-            log.info("Campo 'additionalInfo' está vazio. Buscando bio via API do GitHub...");
-            consent.setAdditionalInfo(gitHubClient.getUserBioOrDefault("fsousa1987"));
+    private boolean fillAdditionalInfoIfMissing(Consent consent) {
+        if (consent.getAdditionalInfo() != null && !consent.getAdditionalInfo().isBlank()) {
+            return false;
+        }
+        if (enricher.isAsync()) {
+            log.info("Campo 'additionalInfo' está vazio. Bio do GitHub será buscada em background.");
+            return true;
         }
+        log.info("Campo 'additionalInfo' está vazio. Buscando bio via API do GitHub...");
+        consent.setAdditionalInfo(gitHubClient.getUserBioOrDefault(GITHUB_USERNAME));
+        return false;
     }
 
 }
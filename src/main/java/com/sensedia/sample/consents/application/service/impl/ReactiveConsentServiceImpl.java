@@ -0,0 +1,275 @@
+package com.sensedia.sample.consents.application.service.impl;
+
+import com.sensedia.sample.consents.application.service.ReactiveConsentService;
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import com.sensedia.sample.consents.domain.repository.reactive.ReactiveConsentHistoryRepository;
+import com.sensedia.sample.consents.domain.repository.reactive.ReactiveConsentRepository;
+import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentBatchProperties;
+import com.sensedia.sample.consents.infra.config.properties.ConsentSearchProperties;
+import com.sensedia.sample.consents.infra.metrics.ConsentOutcomeMetrics;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
+import com.sensedia.sample.consents.infra.util.CursorUtils.TimestampCursor;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.BatchLimitExceededException;
+import com.sensedia.sample.consents.rest.exception.ConsentNotFoundException;
+import com.sensedia.sample.consents.rest.exception.DuplicateCpfException;
+import com.sensedia.sample.consents.rest.exception.PreconditionFailedException;
+import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.application.service.impl.ConsentHistoryFactory.OPERATION_DELETED;
+import static com.sensedia.sample.consents.application.service.impl.ConsentHistoryFactory.OPERATION_UPDATED;
+import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveConsentServiceImpl implements ReactiveConsentService {
+
+    private static final String GITHUB_USERNAME = "fsousa1987";
+
+    private final ReactiveConsentRepository repository;
+    private final ReactiveConsentHistoryRepository historyRepository;
+    private final ConsentMapper mapper;
+    private final GitHubClient gitHubClient;
+    private final ConsentOutcomeMetrics outcomeMetrics;
+    private final Validator validator;
+    private final ConsentBatchProperties batchProperties;
+    private final ConsentSearchProperties searchProperties;
+
+    @Override
+    public Mono<ConsentResponseDTO> createConsent(ConsentRequestDTO request) {
+        log.info("Iniciando criação de consentimento para CPF: {}", maskCpf(request.cpf()));
+        return Mono.fromSupplier(() -> {
+                    Consent consent = mapper.toEntity(request);
+                    consent.setCreationDateTime(LocalDateTime.now());
+                    return consent;
+                })
+                .flatMap(this::fillAdditionalInfoIfMissing)
+                .flatMap(repository::insert)
+                .onErrorMap(DuplicateKeyException.class, ex -> duplicateCpf(request.cpf()))
+                .doOnNext(saved -> log.info("Consentimento criado com sucesso. ID: {}", saved.getId()))
+                .map(mapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<ConsentBatchResponseDTO> createConsentsBatch(List<ConsentRequestDTO> requests) {
+        log.info("Iniciando criação de consentimentos em lote. Itens: {}", requests.size());
+        if (requests.size() > batchProperties.maxSize()) {
+            return Mono.error(new BatchLimitExceededException(
+                    "O lote excede o limite de " + batchProperties.maxSize() + " itens"));
+        }
+        return Mono.fromSupplier(() -> new ConsentBatch(requests, validator))
+                .flatMap(batch -> repository.findExistingCpfs(batch.cpfs())
+                        .map(existingCpfs -> batch.toInsert(existingCpfs, mapper::toEntity))
+                        .flatMap(this::fillMissingAdditionalInfo)
+                        .flatMap(repository::insertAllUnordered)
+                        .map(batch::complete))
+                .doOnNext(response -> {
+                    outcomeMetrics.duplicateCpf(response.duplicates());
+                    log.info("Lote processado. Criados: {}, Duplicados: {}, Inválidos: {}",
+                            response.created(), response.duplicates(), response.invalid());
+                });
+    }
+
+    @Override
+    public Flux<ConsentResponseDTO> getAllConsents(ConsentProjection projection) {
+        log.debug("Buscando todos os consentimentos...");
+        return repository.findAll(projection)
+                .map(mapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(int page, int size,
+                                                                         ConsentProjection projection) {
+        log.debug("Buscando consentimentos paginados. Página: {}, Tamanho: {}", page, size);
+        return repository.findPage(PageRequest.of(page, size), projection)
+                .map(mapper::toResponseDTO)
+                .collectList()
+                .zipWith(repository.countAll(), (content, total) -> new PageResponseDTO<>(
+                        content,
+                        page,
+                        size,
+                        total,
+                        (int) Math.ceil((double) total / size)
+                ));
+    }
+
+    @Override
+    public Mono<CursorPageResponseDTO<ConsentResponseDTO>> getConsentsByCursor(String cursor, int size,
+                                                                             boolean includeTotal,
+                                                                             ConsentProjection projection) {
+        log.debug("Buscando consentimentos por cursor. Cursor: {}, Tamanho: {}", cursor, size);
+        return Mono.fromSupplier(() -> Optional.ofNullable(CursorUtils.decode(cursor)))
+                .flatMapMany(lastId -> repository.findPageAfter(lastId.orElse(null), size + 1, projection))
+                .collectList()
+                .flatMap(consents -> {
+                    boolean hasNext = consents.size() > size;
+                    List<Consent> pageItems = hasNext ? consents.subList(0, size) : consents;
+                    List<ConsentResponseDTO> content = pageItems.stream()
+                            .map(mapper::toResponseDTO)
+                            .toList();
+                    String nextCursor = hasNext ? CursorUtils.encode(pageItems.get(pageItems.size() - 1).getId()) : null;
+
+                    if (!includeTotal) {
+                        return Mono.just(new CursorPageResponseDTO<>(content, size, nextCursor, null));
+                    }
+                    return repository.countAll()
+                            .map(total -> new CursorPageResponseDTO<>(content, size, nextCursor, total));
+                });
+    }
+
+    @Override
+    public Mono<CursorPageResponseDTO<ConsentResponseDTO>> searchConsents(ConsentSearchFilter filter, String cursor,
+                                                                          int size, CountMode countMode,
+                                                                          ConsentProjection projection) {
+        log.debug("Buscando consentimentos filtrados: {}. Cursor: {}, Tamanho: {}", filter, cursor, size);
+        return Mono.fromSupplier(() -> {
+                    ConsentServiceImpl.validateSearch(filter, countMode);
+                    return Optional.ofNullable(CursorUtils.decodeTimestampCursor(cursor));
+                })
+                .flatMapMany(last -> repository.search(filter,
+                        last.map(TimestampCursor::timestamp).orElse(null), last.map(TimestampCursor::id).orElse(null),
+                        size + 1, projection.including(filter.sortField())))
+                .collectList()
+                .flatMap(consents -> {
+                    boolean hasNext = consents.size() > size;
+                    List<Consent> pageItems = hasNext ? consents.subList(0, size) : consents;
+                    List<ConsentResponseDTO> content = pageItems.stream()
+                            .map(mapper::toResponseDTO)
+                            .toList();
+                    String nextCursor = hasNext
+                            ? ConsentServiceImpl.searchCursorOf(filter, pageItems.get(pageItems.size() - 1))
+                            : null;
+
+                    return switch (countMode) {
+                        case NONE -> Mono.just(new CursorPageResponseDTO<>(content, size, nextCursor, null));
+                        case EXACT -> repository.countMatching(filter, 0)
+                                .map(total -> new CursorPageResponseDTO<>(content, size, nextCursor, total));
+                        case ESTIMATED -> repository.estimatedCount()
+                                .map(total -> new CursorPageResponseDTO<>(content, size, nextCursor, total));
+                        case CAPPED -> {
+                            int cap = searchProperties.countCap();
+                            yield repository.countMatching(filter, cap)
+                                    .map(total -> new CursorPageResponseDTO<>(content, size, nextCursor, total,
+                                            total >= cap));
+                        }
+                    };
+                });
+    }
+
+    @Override
+    public Mono<ConsentResponseDTO> getConsentById(UUID id) {
+        log.debug("Buscando consentimento por ID: {}", id);
+        return verifyIfConsentExists(id)
+                .map(mapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<ConsentResponseDTO> updateConsent(UUID id, ConsentUpdateDTO request, Collection<Long> expectedVersions) {
+        log.info("Atualizando consentimento ID: {}", id);
+        return repository.updateAndGet(id, request.status(), request.expirationDateTime(), request.additionalInfo(),
+                        expectedVersions)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrStale(id, expectedVersions)))
+                .flatMap(saved -> saveHistory(saved, OPERATION_UPDATED).thenReturn(saved))
+                .doOnNext(saved -> log.info("Consentimento atualizado com sucesso. ID: {}", saved.getId()))
+                .map(mapper::toResponseDTO);
+    }
+
+    @Override
+    public Mono<Void> deleteConsent(UUID id, Collection<Long> expectedVersions) {
+        log.info("Revogando consentimento ID: {}", id);
+        return repository.deleteAndGet(id, expectedVersions)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrStale(id, expectedVersions)))
+                .flatMap(removed -> saveHistory(removed, OPERATION_DELETED))
+                .doOnSuccess(ignored -> log.info("Consentimento revogado com sucesso. ID: {}", id));
+    }
+
+    private DuplicateCpfException duplicateCpf(String cpf) {
+        log.warn("Tentativa de criação de consentimento com CPF duplicado: {}", maskCpf(cpf));
+        outcomeMetrics.duplicateCpf();
+        return new DuplicateCpfException("Já existe um consentimento com este CPF: " + cpf);
+    }
+
+    private Mono<Consent> verifyIfConsentExists(UUID id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(consentNotFound(id))));
+    }
+
+    private <T> Mono<T> notFoundOrStale(UUID id, Collection<Long> expectedVersions) {
+        if (expectedVersions == null) {
+            return Mono.error(consentNotFound(id));
+        }
+        return repository.existsById(id)
+                .flatMap(exists -> Mono.error(exists ? preconditionFailed(id) : consentNotFound(id)));
+    }
+
+    private PreconditionFailedException preconditionFailed(UUID id) {
+        log.warn("Versão informada em If-Match não corresponde à atual. ID: {}", id);
+        outcomeMetrics.preconditionFailed();
+        return new PreconditionFailedException("O consentimento foi alterado por outra requisição. ID: " + id);
+    }
+
+    private ConsentNotFoundException consentNotFound(UUID id) {
+        log.warn("Consentimento não encontrado para o ID: {}", id);
+        outcomeMetrics.notFound();
+        return new ConsentNotFoundException("Consentimento não encontrado para o ID: " + id);
+    }
+
+    private Mono<Void> saveHistory(Consent consent, String operation) {
+        log.debug("Registrando histórico de operação '{}'. ID: {}", operation, consent.getId());
+        return historyRepository.save(ConsentHistoryFactory.from(consent, operation)).then();
+    }
+
+    private Mono<Consent> fillAdditionalInfoIfMissing(Consent consent) {
+        if (consent.getAdditionalInfo() != null && !consent.getAdditionalInfo().isBlank()) {
+            return Mono.just(consent);
+        }
+        log.info("Campo 'additionalInfo' está vazio. Buscando bio via API do GitHub...");
+        return gitHubClient.getUserBio(GITHUB_USERNAME)
+                .map(bio -> {
+                    consent.setAdditionalInfo(bio);
+                    return consent;
+                });
+    }
+
+    private Mono<List<Consent>> fillMissingAdditionalInfo(List<Consent> consents) {
+        List<Consent> missing = consents.stream()
+                .filter(consent -> consent.getAdditionalInfo() == null || consent.getAdditionalInfo().isBlank())
+                .toList();
+        if (missing.isEmpty()) {
+            return Mono.just(consents);
+        }
+        log.info("Itens do lote sem 'additionalInfo'. Buscando bio via API do GitHub...");
+        return gitHubClient.getUserBio(GITHUB_USERNAME)
+                .map(bio -> {
+                    missing.forEach(consent -> consent.setAdditionalInfo(bio));
+                    return consents;
+                });
+    }
+
+}
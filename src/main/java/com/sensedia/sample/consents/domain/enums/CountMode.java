@@ -0,0 +1,20 @@
+package com.sensedia.sample.consents.domain.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Forma de contar o total de elementos de uma consulta")
+public enum CountMode {
+
+    @Schema(description = "Não conta; totalElements fica ausente")
+    NONE,
+
+    @Schema(description = "countDocuments exato com o filtro da consulta")
+    EXACT,
+
+    @Schema(description = "countDocuments interrompido no limite configurado; totalCapped indica se o limite foi atingido")
+    CAPPED,
+
+    @Schema(description = "estimatedDocumentCount a partir dos metadados da coleção; só aceito sem filtros")
+    ESTIMATED
+
+}
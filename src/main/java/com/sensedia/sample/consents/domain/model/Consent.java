@@ -1,8 +1,12 @@
 package com.sensedia.sample.consents.domain.model;
 
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.infra.util.UuidV7;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,14 +19,18 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "consents")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_expirationDateTime_id", def = "{'status': 1, 'expirationDateTime': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_creationDateTime_id", def = "{'status': 1, 'creationDateTime': 1, '_id': 1}")
+})
 public class Consent {
 
     @Id
     @Builder.Default
-    private UUID id = UUID.randomUUID();
+    private UUID id = UuidV7.generate();
 
     @Indexed(unique = true)
-    private String cpf;
+    private Cpf cpf;
 
     private ConsentStatus status;
 
@@ -32,4 +40,7 @@ public class Consent {
 
     private String additionalInfo;
 
+    @Version
+    private Long version;
+
 }
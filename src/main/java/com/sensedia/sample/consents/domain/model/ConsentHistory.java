@@ -1,9 +1,12 @@
 package com.sensedia.sample.consents.domain.model;
 
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.infra.util.UuidV7;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,18 +19,22 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "consent_history")
+@CompoundIndexes({
+        @CompoundIndex(name = "consentId_timestamp", def = "{'consentId': 1, 'timestamp': 1, '_id': 1}"),
+        @CompoundIndex(name = "cpf_timestamp", def = "{'cpf': 1, 'timestamp': 1, '_id': 1}")
+})
 public class ConsentHistory {
 
     @Id
     @Schema(description = "Identificador único do histórico", example = "e12c8a4b-0e1c-49d0-bac8-4e6123a934dd")
     @Builder.Default
-    private UUID id = UUID.randomUUID();
+    private UUID id = UuidV7.generate();
 
     @Schema(description = "ID do consentimento original", example = "df1d3ef5-b253-4e7b-bf2c-70a0c5df3ae0")
     private UUID consentId;
 
-    @Schema(description = "CPF do consentimento", example = "123.456.789-00")
-    private String cpf;
+    @Schema(description = "CPF do consentimento", example = "123.456.789-09")
+    private Cpf cpf;
 
     @Schema(description = "Status do consentimento no momento da alteração", example = "REVOKED")
     private ConsentStatus status;
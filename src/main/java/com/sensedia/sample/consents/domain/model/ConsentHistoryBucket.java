@@ -0,0 +1,41 @@
+package com.sensedia.sample.consents.domain.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "consent_history_archive")
+@CompoundIndexes({
+        @CompoundIndex(name = "consentId_from", def = "{'consentId': 1, 'from': 1}"),
+        @CompoundIndex(name = "cpf_from", def = "{'cpf': 1, 'from': 1}")
+})
+public class ConsentHistoryBucket {
+
+    @Id
+    private String id;
+
+    private UUID consentId;
+
+    private Cpf cpf;
+
+    private String month;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private int count;
+
+    private byte[] payload;
+
+}
@@ -0,0 +1,122 @@
+package com.sensedia.sample.consents.domain.model;
+
+public record Cpf(long value) {
+
+    public static final int FORMATTED_LENGTH = 14;
+    public static final int DIGITS = 11;
+    private static final long MAX_VALUE = 99_999_999_999L;
+    private static final long INVALID = -1L;
+
+    public Cpf {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("CPF fora do intervalo de 11 dígitos: " + value);
+        }
+    }
+
+    public static Cpf parse(CharSequence text) {
+        long packed = pack(text);
+        if (packed == INVALID || !hasValidCheckDigits(packed)) {
+            throw new IllegalArgumentException("CPF inválido");
+        }
+        return new Cpf(packed);
+    }
+
+    public static boolean isValid(CharSequence text) {
+        long packed = pack(text);
+        return packed != INVALID && hasValidCheckDigits(packed);
+    }
+
+    public static Cpf fromBase(long base) {
+        if (base < 0 || base > 999_999_999L) {
+            throw new IllegalArgumentException("Base do CPF deve ter até 9 dígitos: " + base);
+        }
+        int first = checkDigit(base * 100, 10);
+        long withFirst = base * 100 + first * 10L;
+        int second = checkDigit(withFirst, 11);
+        return new Cpf(withFirst + second);
+    }
+
+    public static long pack(CharSequence text) {
+        if (text == null) return INVALID;
+        int length = text.length();
+        if (length != FORMATTED_LENGTH && length != DIGITS) return INVALID;
+
+        boolean formatted = length == FORMATTED_LENGTH;
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (formatted && (i == 3 || i == 7)) {
+                if (c != '.') return INVALID;
+            } else if (formatted && i == 11) {
+                if (c != '-') return INVALID;
+            } else if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else {
+                return INVALID;
+            }
+        }
+        return value;
+    }
+
+    public static boolean hasValidCheckDigits(long value) {
+        if (value < 0 || value > MAX_VALUE || isRepeatedDigit(value)) return false;
+        int second = (int) (value % 10);
+        int first = (int) (value / 10 % 10);
+        return checkDigit(value, 10) == first && checkDigit(value, 11) == second;
+    }
+
+    public StringBuilder appendTo(StringBuilder target) {
+        long divisor = 10_000_000_000L;
+        for (int i = 0; i < DIGITS; i++) {
+            if (i == 3 || i == 6) target.append('.');
+            else if (i == 9) target.append('-');
+            target.append((char) ('0' + value / divisor % 10));
+            divisor /= 10;
+        }
+        return target;
+    }
+
+    public String masked() {
+        char[] chars = format();
+        for (int i = 0; i < 3; i++) {
+            chars[i] = '*';
+            chars[i + 8] = '*';
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return new String(format());
+    }
+
+    private char[] format() {
+        char[] chars = new char[FORMATTED_LENGTH];
+        long remaining = value;
+        for (int i = FORMATTED_LENGTH - 1; i >= 0; i--) {
+            if (i == 3 || i == 7) chars[i] = '.';
+            else if (i == 11) chars[i] = '-';
+            else {
+                chars[i] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        }
+        return chars;
+    }
+
+    private static int checkDigit(long value, int firstWeight) {
+        long remaining = value / (firstWeight == 10 ? 100 : 10);
+        int sum = 0;
+        for (int weight = 2; weight <= firstWeight; weight++) {
+            sum += (int) (remaining % 10) * weight;
+            remaining /= 10;
+        }
+        int digit = sum * 10 % 11;
+        return digit == 10 ? 0 : digit;
+    }
+
+    private static boolean isRepeatedDigit(long value) {
+        return value % 11_111_111_111L == 0;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConsentHistoryBucketRepository extends MongoRepository<ConsentHistoryBucket, String>,
+        ConsentHistoryBucketRepositoryCustom {
+}
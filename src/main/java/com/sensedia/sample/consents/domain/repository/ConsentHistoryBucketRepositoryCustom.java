@@ -0,0 +1,12 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface ConsentHistoryBucketRepositoryCustom {
+
+    Stream<ConsentHistoryBucket> streamOverlapping(ConsentHistoryFilter filter, LocalDateTime lowerBound);
+
+}
@@ -0,0 +1,48 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.infra.routing.ReadRoute;
+import com.sensedia.sample.consents.infra.routing.ReadRouter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public class ConsentHistoryBucketRepositoryCustomImpl implements ConsentHistoryBucketRepositoryCustom {
+
+    private static final String ID_FIELD = "_id";
+    private static final String CONSENT_ID_FIELD = "consentId";
+    private static final String CPF_FIELD = "cpf";
+    private static final String FROM_FIELD = "from";
+    private static final String TO_FIELD = "to";
+    private static final int BUCKET_BATCH_SIZE = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouter readRouter;
+
+    public ConsentHistoryBucketRepositoryCustomImpl(MongoTemplate mongoTemplate, ReadRouter readRouter) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouter = readRouter;
+    }
+
+    @Override
+    public Stream<ConsentHistoryBucket> streamOverlapping(ConsentHistoryFilter filter, LocalDateTime lowerBound) {
+        Criteria criteria = filter.consentId() != null
+                ? Criteria.where(CONSENT_ID_FIELD).is(filter.consentId())
+                : Criteria.where(CPF_FIELD).is(filter.cpf());
+        if (lowerBound != null) {
+            criteria.and(TO_FIELD).gte(lowerBound);
+        }
+        if (filter.to() != null) {
+            criteria.and(FROM_FIELD).lt(filter.to());
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, FROM_FIELD, ID_FIELD))
+                .cursorBatchSize(BUCKET_BATCH_SIZE);
+        return mongoTemplate.stream(readRouter.route(query, ReadRoute.HISTORY), ConsentHistoryBucket.class);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.model.Cpf;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ConsentHistoryFilter(UUID consentId, Cpf cpf, LocalDateTime from, LocalDateTime to) {
+
+    public static ConsentHistoryFilter byConsentId(UUID consentId, LocalDateTime from, LocalDateTime to) {
+        return new ConsentHistoryFilter(consentId, null, from, to);
+    }
+
+    public static ConsentHistoryFilter byCpf(Cpf cpf, LocalDateTime from, LocalDateTime to) {
+        return new ConsentHistoryFilter(null, cpf, from, to);
+    }
+
+}
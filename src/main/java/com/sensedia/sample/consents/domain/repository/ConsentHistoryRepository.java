@@ -7,5 +7,6 @@ import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
 @Repository
-public interface ConsentHistoryRepository extends MongoRepository<ConsentHistory, UUID> {
+public interface ConsentHistoryRepository extends MongoRepository<ConsentHistory, UUID>,
+        ConsentHistoryRepositoryCustom {
 }
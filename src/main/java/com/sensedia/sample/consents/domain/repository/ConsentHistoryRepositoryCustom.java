@@ -0,0 +1,20 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ConsentHistoryRepositoryCustom {
+
+    int insertAllIgnoringDuplicates(List<ConsentHistory> histories);
+
+    List<ConsentHistory> findPageAfter(ConsentHistoryFilter filter, LocalDateTime lastTimestamp, UUID lastId, int limit);
+
+    Stream<ConsentHistory> stream(ConsentHistoryFilter filter);
+
+    Stream<ConsentHistory> streamOlderThan(LocalDateTime cutoff);
+
+}
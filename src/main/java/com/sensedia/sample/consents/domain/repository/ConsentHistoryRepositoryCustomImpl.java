@@ -0,0 +1,102 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.infra.codec.CodecMongoTemplate;
+import com.sensedia.sample.consents.infra.routing.ReadRoute;
+import com.sensedia.sample.consents.infra.routing.ReadRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class ConsentHistoryRepositoryCustomImpl implements ConsentHistoryRepositoryCustom {
+
+    private static final String ID_FIELD = "_id";
+    private static final String CONSENT_ID_FIELD = "consentId";
+    private static final String CPF_FIELD = "cpf";
+    private static final String TIMESTAMP_FIELD = "timestamp";
+    private static final String CONSENT_ID_TIMESTAMP_INDEX = "consentId_timestamp";
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final Sort CHRONOLOGICAL = Sort.by(Sort.Direction.ASC, TIMESTAMP_FIELD, ID_FIELD);
+
+    private final CodecMongoTemplate codecTemplate;
+    private final int streamBatchSize;
+    private final ReadRouter readRouter;
+
+    public ConsentHistoryRepositoryCustomImpl(CodecMongoTemplate codecTemplate,
+                                              @Value("${consents.streaming.batch-size:500}") int streamBatchSize,
+                                              ReadRouter readRouter) {
+        this.codecTemplate = codecTemplate;
+        this.streamBatchSize = streamBatchSize;
+        this.readRouter = readRouter;
+    }
+
+    @Override
+    public int insertAllIgnoringDuplicates(List<ConsentHistory> histories) {
+        if (histories.isEmpty()) return 0;
+        try {
+            return codecTemplate.insertUnordered(histories, ConsentHistory.class);
+        } catch (BulkOperationException ex) {
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) throw ex;
+            }
+            return ex.getResult().getInsertedCount();
+        }
+    }
+
+    @Override
+    public List<ConsentHistory> findPageAfter(ConsentHistoryFilter filter, LocalDateTime lastTimestamp, UUID lastId,
+                                              int limit) {
+        Query query = new Query(criteria(filter, lastTimestamp, lastId))
+                .with(CHRONOLOGICAL)
+                .limit(limit);
+        return codecTemplate.find(readRouter.route(query, ReadRoute.HISTORY), ConsentHistory.class);
+    }
+
+    @Override
+    public Stream<ConsentHistory> stream(ConsentHistoryFilter filter) {
+        Query query = new Query(criteria(filter, null, null))
+                .with(CHRONOLOGICAL)
+                .cursorBatchSize(streamBatchSize);
+        return codecTemplate.stream(readRouter.route(query, ReadRoute.HISTORY), ConsentHistory.class);
+    }
+
+    @Override
+    public Stream<ConsentHistory> streamOlderThan(LocalDateTime cutoff) {
+        Query query = new Query(Criteria.where(TIMESTAMP_FIELD).lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, CONSENT_ID_FIELD, TIMESTAMP_FIELD, ID_FIELD))
+                .withHint(CONSENT_ID_TIMESTAMP_INDEX)
+                .cursorBatchSize(streamBatchSize);
+        return codecTemplate.stream(query, ConsentHistory.class);
+    }
+
+    private static Criteria criteria(ConsentHistoryFilter filter, LocalDateTime lastTimestamp, UUID lastId) {
+        Criteria criteria = filter.consentId() != null
+                ? Criteria.where(CONSENT_ID_FIELD).is(filter.consentId())
+                : Criteria.where(CPF_FIELD).is(filter.cpf());
+
+        LocalDateTime lowerBound = filter.from();
+        if (lastTimestamp != null && (lowerBound == null || lastTimestamp.isAfter(lowerBound))) {
+            lowerBound = lastTimestamp;
+        }
+        if (lowerBound != null || filter.to() != null) {
+            Criteria timestamp = criteria.and(TIMESTAMP_FIELD);
+            if (lowerBound != null) timestamp.gte(lowerBound);
+            if (filter.to() != null) timestamp.lt(filter.to());
+        }
+        if (lastTimestamp != null) {
+            criteria.orOperator(
+                    Criteria.where(TIMESTAMP_FIELD).gt(lastTimestamp),
+                    Criteria.where(TIMESTAMP_FIELD).is(lastTimestamp).and(ID_FIELD).gt(lastId));
+        }
+        return criteria;
+    }
+
+}
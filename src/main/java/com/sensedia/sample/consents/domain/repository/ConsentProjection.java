@@ -0,0 +1,30 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public record ConsentProjection(Set<String> fields) {
+
+    public static final ConsentProjection ALL = new ConsentProjection(null);
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public ConsentProjection including(String field) {
+        if (isAll() || fields.contains(field)) return this;
+        Set<String> withField = new HashSet<>(fields);
+        withField.add(field);
+        return new ConsentProjection(Set.copyOf(withField));
+    }
+
+    public Query applyTo(Query query) {
+        if (!isAll()) {
+            fields.forEach(field -> query.fields().include(field));
+        }
+        return query;
+    }
+
+}
@@ -4,11 +4,16 @@ import com.sensedia.sample.consents.domain.model.Consent;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ConsentRepository extends MongoRepository<Consent, UUID> {
+public interface ConsentRepository extends MongoRepository<Consent, UUID>, ConsentRepositoryCustom {
 
-    boolean existsByCpf(String cpf);
+    @Override
+    Optional<Consent> findById(UUID id);
+
+    @Override
+    <S extends Consent> S insert(S consent);
 
 }
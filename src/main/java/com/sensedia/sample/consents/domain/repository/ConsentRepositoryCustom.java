@@ -0,0 +1,57 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ConsentRepositoryCustom {
+
+    Optional<Consent> findById(UUID id);
+
+    <S extends Consent> S insert(S consent);
+
+    Stream<Consent> streamAll(ConsentProjection projection);
+
+    List<Consent> findAll(ConsentProjection projection);
+
+    Page<Consent> findPage(Pageable pageable, ConsentProjection projection);
+
+    long countAll();
+
+    List<Consent> findPageAfter(UUID lastId, int limit, ConsentProjection projection);
+
+    List<Consent> search(ConsentSearchFilter filter, LocalDateTime lastValue, UUID lastId, int limit,
+                         ConsentProjection projection);
+
+    long countMatching(ConsentSearchFilter filter, int cap);
+
+    long estimatedCount();
+
+    Set<Cpf> findExistingCpfs(Collection<Cpf> cpfs);
+
+    Set<Integer> insertAllUnordered(List<Consent> consents);
+
+    long setAdditionalInfoIfMissing(Collection<UUID> ids, String additionalInfo);
+
+    Optional<Consent> updateAndGet(UUID id, ConsentStatus status, LocalDateTime expirationDateTime,
+                                   String additionalInfo, Collection<Long> expectedVersions);
+
+    Optional<Consent> deleteAndGet(UUID id, Collection<Long> expectedVersions);
+
+    List<Consent> findExpiredActive(LocalDateTime now, int limit);
+
+    List<Consent> findExpiredActive(Collection<UUID> ids, LocalDateTime now);
+
+    Set<UUID> markExpired(Collection<Consent> candidates, LocalDateTime now);
+
+}
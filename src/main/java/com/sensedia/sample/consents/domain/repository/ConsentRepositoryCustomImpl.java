@@ -0,0 +1,251 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.sensedia.sample.consents.infra.codec.CodecMongoTemplate;
+import com.sensedia.sample.consents.infra.routing.ReadRoute;
+import com.sensedia.sample.consents.infra.routing.ReadRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class ConsentRepositoryCustomImpl implements ConsentRepositoryCustom {
+
+    private static final String ID_FIELD = "_id";
+    private static final String CPF_FIELD = "cpf";
+    private static final String STATUS_FIELD = "status";
+    private static final String EXPIRATION_DATE_TIME_FIELD = "expirationDateTime";
+    private static final String ADDITIONAL_INFO_FIELD = "additionalInfo";
+    private static final String VERSION_FIELD = "version";
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CodecMongoTemplate codecTemplate;
+    private final int streamBatchSize;
+    private final ReadRouter readRouter;
+
+    public ConsentRepositoryCustomImpl(MongoTemplate mongoTemplate, CodecMongoTemplate codecTemplate,
+                                       @Value("${consents.streaming.batch-size:500}") int streamBatchSize,
+                                       ReadRouter readRouter) {
+        this.mongoTemplate = mongoTemplate;
+        this.codecTemplate = codecTemplate;
+        this.streamBatchSize = streamBatchSize;
+        this.readRouter = readRouter;
+    }
+
+    @Override
+    public Optional<Consent> findById(UUID id) {
+        return codecTemplate.findById(id, Consent.class);
+    }
+
+    @Override
+    public <S extends Consent> S insert(S consent) {
+        initializeVersion(consent);
+        codecTemplate.insert(consent, Consent.class);
+        return consent;
+    }
+
+    @Override
+    public Stream<Consent> streamAll(ConsentProjection projection) {
+        Query query = projection.applyTo(new Query().cursorBatchSize(streamBatchSize));
+        return codecTemplate.stream(readRouter.route(query, ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public List<Consent> findAll(ConsentProjection projection) {
+        return codecTemplate.find(readRouter.route(projection.applyTo(new Query()), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public Page<Consent> findPage(Pageable pageable, ConsentProjection projection) {
+        Query query = projection.applyTo(new Query().with(pageable));
+        List<Consent> content = codecTemplate.find(readRouter.route(query, ReadRoute.LIST), Consent.class);
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    @Override
+    public long countAll() {
+        return mongoTemplate.count(readRouter.route(new Query(), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public List<Consent> findPageAfter(UUID lastId, int limit, ConsentProjection projection) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .limit(limit);
+        if (lastId != null) {
+            query.addCriteria(Criteria.where(ID_FIELD).gt(lastId));
+        }
+        return codecTemplate.find(readRouter.route(projection.applyTo(query), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public List<Consent> search(ConsentSearchFilter filter, LocalDateTime lastValue, UUID lastId, int limit,
+                                ConsentProjection projection) {
+        Query query = new Query(filter.toCriteria(lastValue, lastId))
+                .with(Sort.by(Sort.Direction.ASC, filter.sortField(), ID_FIELD))
+                .limit(limit);
+        return codecTemplate.find(readRouter.route(projection.applyTo(query), ReadRoute.SEARCH), Consent.class);
+    }
+
+    @Override
+    public long countMatching(ConsentSearchFilter filter, int cap) {
+        Query query = new Query(filter.toCriteria(null, null));
+        if (cap > 0) {
+            query.limit(cap);
+        }
+        return mongoTemplate.count(readRouter.route(query, ReadRoute.SEARCH), Consent.class);
+    }
+
+    @Override
+    public long estimatedCount() {
+        ReadPreference readPreference = readRouter.readPreference(ReadRoute.SEARCH);
+        return mongoTemplate.execute(Consent.class,
+                collection -> collection.withReadPreference(readPreference).estimatedDocumentCount());
+    }
+
+    @Override
+    public Set<Cpf> findExistingCpfs(Collection<Cpf> cpfs) {
+        if (cpfs.isEmpty()) return Set.of();
+        Query query = new Query(Criteria.where(CPF_FIELD).in(cpfs));
+        Set<Cpf> existing = new HashSet<>();
+        for (Long value : mongoTemplate.findDistinct(query, CPF_FIELD, Consent.class, Long.class)) {
+            existing.add(new Cpf(value));
+        }
+        return existing;
+    }
+
+    @Override
+    public Set<Integer> insertAllUnordered(List<Consent> consents) {
+        if (consents.isEmpty()) return Set.of();
+        consents.forEach(ConsentRepositoryCustomImpl::initializeVersion);
+        try {
+            codecTemplate.insertUnordered(consents, Consent.class);
+            return Set.of();
+        } catch (BulkOperationException ex) {
+            Set<Integer> duplicated = new HashSet<>();
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) throw ex;
+                duplicated.add(error.getIndex());
+            }
+            return duplicated;
+        }
+    }
+
+    @Override
+    public long setAdditionalInfoIfMissing(Collection<UUID> ids, String additionalInfo) {
+        if (ids.isEmpty()) return 0;
+        Query query = new Query(Criteria.where(ID_FIELD).in(ids)
+                .and(ADDITIONAL_INFO_FIELD).in(null, ""));
+        Update update = Update.update(ADDITIONAL_INFO_FIELD, additionalInfo).inc(VERSION_FIELD, 1);
+        return mongoTemplate.updateMulti(query, update, Consent.class).getModifiedCount();
+    }
+
+    @Override
+    public Optional<Consent> updateAndGet(UUID id, ConsentStatus status, LocalDateTime expirationDateTime,
+                                          String additionalInfo, Collection<Long> expectedVersions) {
+        Query query = new Query(byIdAndVersion(id, expectedVersions));
+        Update update = new Update()
+                .set(STATUS_FIELD, status)
+                .set(EXPIRATION_DATE_TIME_FIELD, expirationDateTime)
+                .set(ADDITIONAL_INFO_FIELD, additionalInfo)
+                .inc(VERSION_FIELD, 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Consent.class));
+    }
+
+    @Override
+    public Optional<Consent> deleteAndGet(UUID id, Collection<Long> expectedVersions) {
+        Query query = new Query(byIdAndVersion(id, expectedVersions));
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Consent.class));
+    }
+
+    @Override
+    public List<Consent> findExpiredActive(LocalDateTime now, int limit) {
+        Query query = new Query(expiredActive(now))
+                .with(Sort.by(Sort.Direction.ASC, EXPIRATION_DATE_TIME_FIELD))
+                .limit(limit);
+        return mongoTemplate.find(query, Consent.class);
+    }
+
+    @Override
+    public List<Consent> findExpiredActive(Collection<UUID> ids, LocalDateTime now) {
+        if (ids.isEmpty()) return List.of();
+        return mongoTemplate.find(new Query(expiredActive(now).and(ID_FIELD).in(ids)), Consent.class);
+    }
+
+    @Override
+    public Set<UUID> markExpired(Collection<Consent> candidates, LocalDateTime now) {
+        if (candidates.isEmpty()) return Set.of();
+        Update update = Update.update(STATUS_FIELD, ConsentStatus.EXPIRED).inc(VERSION_FIELD, 1);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Consent.class);
+        Map<UUID, Long> expectedVersions = new HashMap<>();
+        for (Consent consent : candidates) {
+            long version = consent.getVersion() == null ? 0L : consent.getVersion();
+            expectedVersions.put(consent.getId(), version + 1);
+            bulk.updateOne(new Query(byIdAndVersion(consent.getId(), List.of(version))
+                    .and(STATUS_FIELD).is(ConsentStatus.ACTIVE)
+                    .and(EXPIRATION_DATE_TIME_FIELD).lt(now)), update);
+        }
+        if (bulk.execute().getModifiedCount() == candidates.size()) {
+            return expectedVersions.keySet();
+        }
+        // O resultado do bulk não diz quais operações casaram: confere a versão gravada por este incremento
+        Query query = new Query(Criteria.where(ID_FIELD).in(expectedVersions.keySet())
+                .and(STATUS_FIELD).is(ConsentStatus.EXPIRED));
+        query.fields().include(ID_FIELD, VERSION_FIELD);
+        Set<UUID> matched = new HashSet<>();
+        for (Consent consent : mongoTemplate.find(query, Consent.class)) {
+            if (expectedVersions.get(consent.getId()).equals(consent.getVersion())) {
+                matched.add(consent.getId());
+            }
+        }
+        return matched;
+    }
+
+    private static Criteria byIdAndVersion(UUID id, Collection<Long> expectedVersions) {
+        Criteria criteria = Criteria.where(ID_FIELD).is(id);
+        if (expectedVersions == null) return criteria;
+        List<Long> accepted = new ArrayList<>(expectedVersions);
+        if (accepted.contains(0L)) {
+            accepted.add(null); // documentos gravados antes do controle de versão
+        }
+        return criteria.and(VERSION_FIELD).in(accepted);
+    }
+
+    private static void initializeVersion(Consent consent) {
+        if (consent.getVersion() == null) {
+            consent.setVersion(0L);
+        }
+    }
+
+    private static Criteria expiredActive(LocalDateTime now) {
+        return Criteria.where(STATUS_FIELD).is(ConsentStatus.ACTIVE)
+                .and(EXPIRATION_DATE_TIME_FIELD).lt(now);
+    }
+
+}
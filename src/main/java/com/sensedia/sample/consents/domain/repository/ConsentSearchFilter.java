@@ -0,0 +1,67 @@
+package com.sensedia.sample.consents.domain.repository;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+public record ConsentSearchFilter(Set<ConsentStatus> statuses, LocalDateTime expiresFrom, LocalDateTime expiresTo,
+                                  LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    public static final String EXPIRATION_DATE_TIME = "expirationDateTime";
+    public static final String CREATION_DATE_TIME = "creationDateTime";
+    private static final String STATUS_FIELD = "status";
+    private static final String ID_FIELD = "_id";
+
+    public ConsentSearchFilter {
+        statuses = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ConsentStatus.class)
+                : EnumSet.copyOf(statuses);
+    }
+
+    public boolean sortsByExpiration() {
+        return expiresFrom != null || expiresTo != null;
+    }
+
+    public String sortField() {
+        return sortsByExpiration() ? EXPIRATION_DATE_TIME : CREATION_DATE_TIME;
+    }
+
+    public boolean isUnfiltered() {
+        return statuses.size() == ConsentStatus.values().length
+                && expiresFrom == null && expiresTo == null && createdFrom == null && createdTo == null;
+    }
+
+    public Criteria toCriteria(LocalDateTime lastValue, UUID lastId) {
+        Criteria criteria = Criteria.where(STATUS_FIELD).in(statuses);
+        String sortField = sortField();
+        range(criteria, EXPIRATION_DATE_TIME, expiresFrom, expiresTo,
+                sortField.equals(EXPIRATION_DATE_TIME) ? lastValue : null);
+        range(criteria, CREATION_DATE_TIME, createdFrom, createdTo,
+                sortField.equals(CREATION_DATE_TIME) ? lastValue : null);
+        if (lastValue != null) {
+            criteria.orOperator(
+                    Criteria.where(sortField).gt(lastValue),
+                    Criteria.where(sortField).is(lastValue).and(ID_FIELD).gt(lastId));
+        } else if (sortField.equals(CREATION_DATE_TIME) && createdFrom == null && createdTo == null) {
+            criteria.and(sortField).ne(null);
+        }
+        return criteria;
+    }
+
+    private static void range(Criteria criteria, String field, LocalDateTime from, LocalDateTime to,
+                              LocalDateTime lastValue) {
+        LocalDateTime lowerBound = from;
+        if (lastValue != null && (lowerBound == null || lastValue.isAfter(lowerBound))) {
+            lowerBound = lastValue;
+        }
+        if (lowerBound == null && to == null) return;
+        Criteria range = criteria.and(field);
+        if (lowerBound != null) range.gte(lowerBound);
+        if (to != null) range.lt(to);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.sensedia.sample.consents.domain.repository.reactive;
+
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveConsentHistoryRepository extends ReactiveMongoRepository<ConsentHistory, UUID> {
+}
@@ -0,0 +1,12 @@
+package com.sensedia.sample.consents.domain.repository.reactive;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveConsentRepository extends ReactiveMongoRepository<Consent, UUID>,
+        ReactiveConsentRepositoryCustom {
+}
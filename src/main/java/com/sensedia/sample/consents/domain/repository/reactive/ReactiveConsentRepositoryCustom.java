@@ -0,0 +1,44 @@
+package com.sensedia.sample.consents.domain.repository.reactive;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ReactiveConsentRepositoryCustom {
+
+    Mono<Consent> updateAndGet(UUID id, ConsentStatus status, LocalDateTime expirationDateTime, String additionalInfo,
+                               Collection<Long> expectedVersions);
+
+    Mono<Consent> deleteAndGet(UUID id, Collection<Long> expectedVersions);
+
+    Flux<Consent> findAll(ConsentProjection projection);
+
+    Flux<Consent> findPage(Pageable pageable, ConsentProjection projection);
+
+    Mono<Long> countAll();
+
+    Flux<Consent> findPageAfter(UUID lastId, int limit, ConsentProjection projection);
+
+    Flux<Consent> search(ConsentSearchFilter filter, LocalDateTime lastValue, UUID lastId, int limit,
+                         ConsentProjection projection);
+
+    Mono<Long> countMatching(ConsentSearchFilter filter, int cap);
+
+    Mono<Long> estimatedCount();
+
+    Mono<Set<Cpf>> findExistingCpfs(Collection<Cpf> cpfs);
+
+    Mono<Set<Integer>> insertAllUnordered(List<Consent> consents);
+
+}
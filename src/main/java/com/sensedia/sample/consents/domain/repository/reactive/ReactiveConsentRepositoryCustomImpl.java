@@ -0,0 +1,151 @@
+package com.sensedia.sample.consents.domain.repository.reactive;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import com.sensedia.sample.consents.infra.codec.ReactiveCodecMongoTemplate;
+import com.sensedia.sample.consents.infra.routing.ReadRoute;
+import com.sensedia.sample.consents.infra.routing.ReadRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class ReactiveConsentRepositoryCustomImpl implements ReactiveConsentRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveCodecMongoTemplate codecTemplate;
+    private final ReadRouter readRouter;
+
+    @Override
+    public Mono<Consent> updateAndGet(UUID id, ConsentStatus status, LocalDateTime expirationDateTime,
+                                      String additionalInfo, Collection<Long> expectedVersions) {
+        Query query = new Query(byIdAndVersion(id, expectedVersions));
+        Update update = new Update()
+                .set("status", status)
+                .set("expirationDateTime", expirationDateTime)
+                .set("additionalInfo", additionalInfo)
+                .inc("version", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                Consent.class);
+    }
+
+    @Override
+    public Mono<Consent> deleteAndGet(UUID id, Collection<Long> expectedVersions) {
+        return mongoTemplate.findAndRemove(new Query(byIdAndVersion(id, expectedVersions)), Consent.class);
+    }
+
+    @Override
+    public Flux<Consent> findAll(ConsentProjection projection) {
+        return codecTemplate.find(readRouter.route(projection.applyTo(new Query()), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public Flux<Consent> findPage(Pageable pageable, ConsentProjection projection) {
+        Query query = projection.applyTo(new Query().with(pageable));
+        return codecTemplate.find(readRouter.route(query, ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public Mono<Long> countAll() {
+        return mongoTemplate.count(readRouter.route(new Query(), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public Flux<Consent> findPageAfter(UUID lastId, int limit, ConsentProjection projection) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastId));
+        }
+        return codecTemplate.find(readRouter.route(projection.applyTo(query), ReadRoute.LIST), Consent.class);
+    }
+
+    @Override
+    public Flux<Consent> search(ConsentSearchFilter filter, LocalDateTime lastValue, UUID lastId, int limit,
+                                ConsentProjection projection) {
+        Query query = new Query(filter.toCriteria(lastValue, lastId))
+                .with(Sort.by(Sort.Direction.ASC, filter.sortField(), "_id"))
+                .limit(limit);
+        return codecTemplate.find(readRouter.route(projection.applyTo(query), ReadRoute.SEARCH), Consent.class);
+    }
+
+    @Override
+    public Mono<Long> countMatching(ConsentSearchFilter filter, int cap) {
+        Query query = new Query(filter.toCriteria(null, null));
+        if (cap > 0) {
+            query.limit(cap);
+        }
+        return mongoTemplate.count(readRouter.route(query, ReadRoute.SEARCH), Consent.class);
+    }
+
+    @Override
+    public Mono<Long> estimatedCount() {
+        ReadPreference readPreference = readRouter.readPreference(ReadRoute.SEARCH);
+        return mongoTemplate.execute(Consent.class,
+                        collection -> collection.withReadPreference(readPreference).estimatedDocumentCount())
+                .next();
+    }
+
+    @Override
+    public Mono<Set<Cpf>> findExistingCpfs(Collection<Cpf> cpfs) {
+        if (cpfs.isEmpty()) return Mono.just(Set.of());
+        Query query = new Query(Criteria.where("cpf").in(cpfs));
+        return mongoTemplate.findDistinct(query, "cpf", Consent.class, Long.class)
+                .map(Cpf::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<Set<Integer>> insertAllUnordered(List<Consent> consents) {
+        if (consents.isEmpty()) return Mono.just(Set.of());
+        consents.stream()
+                .filter(consent -> consent.getVersion() == null)
+                .forEach(consent -> consent.setVersion(0L));
+        return codecTemplate.insertUnordered(consents, Consent.class)
+                .<Set<Integer>>thenReturn(Set.of())
+                .onErrorResume(BulkOperationException.class, ex -> {
+                    Set<Integer> duplicated = new HashSet<>();
+                    for (BulkWriteError error : ex.getErrors()) {
+                        if (error.getCode() != DUPLICATE_KEY_ERROR) return Mono.error(ex);
+                        duplicated.add(error.getIndex());
+                    }
+                    return Mono.just(duplicated);
+                });
+    }
+
+    private static Criteria byIdAndVersion(UUID id, Collection<Long> expectedVersions) {
+        Criteria criteria = Criteria.where("_id").is(id);
+        if (expectedVersions == null) return criteria;
+        List<Long> accepted = new ArrayList<>(expectedVersions);
+        if (accepted.contains(0L)) {
+            accepted.add(null);
+        }
+        return criteria.and("version").in(accepted);
+    }
+
+}
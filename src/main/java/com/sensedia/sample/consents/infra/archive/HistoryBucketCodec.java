@@ -0,0 +1,82 @@
+package com.sensedia.sample.consents.infra.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class HistoryBucketCodec {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private static final ObjectWriter WRITER = MAPPER.writerFor(MAPPER.getTypeFactory()
+            .constructCollectionType(List.class, Entry.class));
+    private static final ObjectReader READER = MAPPER.readerFor(MAPPER.getTypeFactory()
+            .constructCollectionType(List.class, Entry.class));
+
+    private HistoryBucketCodec() {
+    }
+
+    public static byte[] encode(List<ConsentHistory> histories) {
+        List<Entry> entries = histories.stream()
+                .map(history -> new Entry(history.getId(), history.getStatus(), history.getExpirationDateTime(),
+                        history.getAdditionalInfo(), history.getOperation(), history.getTimestamp()))
+                .toList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            WRITER.writeValue(out, entries);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<ConsentHistory> decode(ConsentHistoryBucket bucket) {
+        List<Entry> entries;
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bucket.getPayload()))) {
+            entries = READER.readValue(in);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Bucket de histórico corrompido: " + bucket.getId(), ex);
+        }
+        return entries.stream()
+                .map(entry -> ConsentHistory.builder()
+                        .id(entry.id())
+                        .consentId(bucket.getConsentId())
+                        .cpf(bucket.getCpf())
+                        .status(entry.status())
+                        .expirationDateTime(entry.expirationDateTime())
+                        .additionalInfo(entry.additionalInfo())
+                        .operation(entry.operation())
+                        .timestamp(entry.timestamp())
+                        .build())
+                .toList();
+    }
+
+    private record Entry(UUID id, ConsentStatus status, LocalDateTime expirationDateTime, String additionalInfo,
+                         String operation, LocalDateTime timestamp) {
+    }
+
+}
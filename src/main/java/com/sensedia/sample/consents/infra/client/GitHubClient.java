@@ -1,46 +1,154 @@
 package com.sensedia.sample.consents.infra.client;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sensedia.sample.consents.infra.client.response.GitHubUserResponse;
-import lombok.RequiredArgsConstructor;
+import com.sensedia.sample.consents.infra.config.properties.GitHubClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.handler.timeout.ReadTimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GitHubClient {
 
-    private final WebClient.Builder webClientBuilder;
-
-    private static final String BASE_URL = "https://api.github.com/users";
     private static final String DEFAULT_BIO = "Informação externa indisponível";
+    private static final String CACHE_NAME = "github.bio";
+    private static final List<String> OUTCOMES =
+            List.of("success", "client_error", "server_error", "timeout", "connection", "other");
+
+    private final WebClient webClient;
+    private final AsyncLoadingCache<String, String> bioCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> requestTimers;
+
+    public GitHubClient(@Qualifier("gitHubWebClient") WebClient webClient, GitHubClientProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.requestTimers = OUTCOMES.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), this::registerRequestTimer));
+        this.bioCache = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaxSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .refreshAfterWrite(properties.cacheRefreshAfter())
+                .recordStats()
+                .buildAsync((username, executor) -> fetchBio(username).toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, bioCache.synchronous(), CACHE_NAME);
+    }
 
     public String getUserBioOrDefault(String username) {
+        CompletableFuture<String> bio = null;
         try {
-            WebClient client = webClientBuilder
-                    .baseUrl(BASE_URL)
-                    .build();
-
-            GitHubUserResponse response = client
-                    .get()
-                    .uri("/{username}", username)
-                    .retrieve()
-                    .bodyToMono(GitHubUserResponse.class)
-                    .block();
-
-            return response != null && response.bio() != null
-                    ? response.bio()
-                    : DEFAULT_BIO;
-
-        } catch (WebClientResponseException ex) {
-            log.warn("Erro ao consumir API do GitHub ({}): {}", username, ex.getStatusCode());
-            return DEFAULT_BIO;
+            bio = bioCache.get(username);
+            return bio.join();
+        } catch (CompletionException ex) {
+            evictFailed(username, bio);
+            return handleError(username, ex.getCause());
         } catch (Exception ex) {
+            evictFailed(username, bio);
+            return handleError(username, ex);
+        }
+    }
+
+    public Mono<String> getUserBio(String username) {
+        return Mono.defer(() -> {
+            CompletableFuture<String> bio = bioCache.get(username);
+            return Mono.fromFuture(bio)
+                    .onErrorResume(ex -> {
+                        evictFailed(username, bio);
+                        return Mono.just(handleError(username, ex));
+                    });
+        });
+    }
+
+    private void evictFailed(String username, CompletableFuture<String> bio) {
+        if (bio != null) {
+            bioCache.asMap().remove(username, bio);
+        }
+    }
+
+    private String handleError(String username, Throwable ex) {
+        meterRegistry.counter("consents.github.fallbacks", "reason", reason(ex)).increment();
+        if (ex instanceof WebClientResponseException responseEx) {
+            log.warn("Erro ao consumir API do GitHub ({}): {}", username, responseEx.getStatusCode());
+        } else {
             log.error("Erro inesperado ao chamar API do GitHub para '{}'", username, ex);
-            return DEFAULT_BIO;
         }
+        return DEFAULT_BIO;
+    }
+
+    private Mono<String> fetchBio(String username) {
+        log.debug("Bio de '{}' ausente ou expirada no cache. Consultando API do GitHub...", username);
+        return webClient
+                .get()
+                .uri("/{username}", username)
+                .retrieve()
+                .bodyToMono(GitHubUserResponse.class)
+                .mapNotNull(GitHubUserResponse::bio)
+                .defaultIfEmpty(DEFAULT_BIO)
+                .transform(this::timed);
+    }
+
+    private Mono<String> timed(Mono<String> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request
+                    .doOnSuccess(bio -> sample.stop(requestTimer("success")))
+                    .doOnError(ex -> {
+                        String reason = reason(ex);
+                        sample.stop(requestTimer(reason));
+                        meterRegistry.counter("consents.github.errors", "reason", reason).increment();
+                    });
+        });
+    }
+
+    private Timer requestTimer(String outcome) {
+        return requestTimers.get(outcome);
+    }
+
+    private Timer registerRequestTimer(String outcome) {
+        return Timer.builder("consents.github.requests")
+                .description("Latência das chamadas à API do GitHub")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry);
+    }
+
+    private static String reason(Throwable ex) {
+        if (ex instanceof CompletionException && ex.getCause() != null) {
+            return reason(ex.getCause());
+        }
+        if (ex instanceof WebClientResponseException responseEx) {
+            return responseEx.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        if (ex instanceof TimeoutException || ex.getCause() instanceof TimeoutException
+                || ex instanceof ReadTimeoutException || ex.getCause() instanceof ReadTimeoutException) {
+            return "timeout";
+        }
+        if (ex instanceof WebClientRequestException) {
+            return "connection";
+        }
+        return "other";
     }
 
 }
@@ -0,0 +1,88 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class CodecMongoTemplate {
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public CodecMongoTemplate(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    public <T> List<T> find(Query query, Class<T> entityClass) {
+        return mongoTemplate.execute(entityClass,
+                collection -> prepare(collection, query, entityClass).into(new ArrayList<>()));
+    }
+
+    public <T> Stream<T> stream(Query query, Class<T> entityClass) {
+        MongoCursor<T> cursor = mongoTemplate.execute(entityClass,
+                collection -> prepare(collection, query, entityClass).cursor());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    public <T> Optional<T> findById(Object id, Class<T> entityClass) {
+        return Optional.ofNullable(mongoTemplate.execute(entityClass,
+                collection -> collection.withDocumentClass(entityClass).find(Filters.eq("_id", id)).first()));
+    }
+
+    public <T> T insert(T entity, Class<T> entityClass) {
+        mongoTemplate.execute(entityClass, collection -> collection.withDocumentClass(entityClass).insertOne(entity));
+        return entity;
+    }
+
+    public <T> int insertUnordered(List<? extends T> entities, Class<T> entityClass) {
+        return mongoTemplate.execute(entityClass, collection -> {
+            try {
+                collection.withDocumentClass(entityClass)
+                        .insertMany(entities, new InsertManyOptions().ordered(false));
+                return entities.size();
+            } catch (MongoBulkWriteException ex) {
+                throw new BulkOperationException(ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private <T> FindIterable<T> prepare(MongoCollection<Document> collection, Query query, Class<T> entityClass) {
+        MappedQuery mapped = MappedQuery.of(queryMapper, query,
+                mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(entityClass));
+        MongoCollection<T> typed = collection.withDocumentClass(entityClass);
+        if (mapped.readPreference() != null) {
+            typed = typed.withReadPreference(mapped.readPreference());
+        }
+        FindIterable<T> find = typed.find(mapped.filter())
+                .projection(mapped.projection())
+                .sort(mapped.sort())
+                .skip(mapped.skip())
+                .limit(mapped.limit());
+        if (mapped.batchSize() != null) {
+            find.batchSize(mapped.batchSize());
+        }
+        return find;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.infra.util.BsonUuids;
+import org.bson.BsonBinary;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.config.MongoConfig.UUID_REPRESENTATION;
+
+class CodecUtils {
+
+    // Mesmo fuso usado pelos conversores Jsr310 do Spring Data, para ler e gravar os mesmos instantes
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final ZoneOffset FIXED_OFFSET = ZONE.getRules().isFixedOffset()
+            ? ZONE.getRules().getOffset(Instant.EPOCH)
+            : null;
+
+    private CodecUtils() {
+    }
+
+    static void writeUuid(BsonWriter writer, String name, UUID value) {
+        if (value != null) {
+            writer.writeBinaryData(name, new BsonBinary(value, UUID_REPRESENTATION));
+        }
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeEnum(BsonWriter writer, String name, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    static void writeCpf(BsonWriter writer, String name, Cpf value) {
+        if (value != null) {
+            writer.writeInt64(name, value.value());
+        }
+    }
+
+    static void writeDateTime(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, toEpochMilli(value));
+        }
+    }
+
+    static UUID readUuid(BsonReader reader) {
+        return BsonUuids.toUuid(reader.readBinaryData());
+    }
+
+    static Cpf readCpf(BsonReader reader, BsonType type) {
+        return switch (type) {
+            case INT64 -> new Cpf(reader.readInt64());
+            case STRING -> Cpf.parse(reader.readString());
+            default -> throw new IllegalStateException("Tipo BSON inesperado para CPF: " + type);
+        };
+    }
+
+    static LocalDateTime readDateTime(BsonReader reader) {
+        long epochMilli = reader.readDateTime();
+        if (FIXED_OFFSET != null) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000),
+                    (int) Math.floorMod(epochMilli, 1000) * 1_000_000, FIXED_OFFSET);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZONE);
+    }
+
+    static long toEpochMilli(LocalDateTime value) {
+        if (FIXED_OFFSET != null) {
+            return value.toEpochSecond(FIXED_OFFSET) * 1000 + value.getNano() / 1_000_000;
+        }
+        return value.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.codec.CodecUtils.*;
+
+public class ConsentCodec implements Codec<Consent> {
+
+    @Override
+    public void encode(BsonWriter writer, Consent consent, EncoderContext context) {
+        writer.writeStartDocument();
+        writeUuid(writer, "_id", consent.getId());
+        writeCpf(writer, "cpf", consent.getCpf());
+        writeEnum(writer, "status", consent.getStatus());
+        writeDateTime(writer, "creationDateTime", consent.getCreationDateTime());
+        writeDateTime(writer, "expirationDateTime", consent.getExpirationDateTime());
+        writeString(writer, "additionalInfo", consent.getAdditionalInfo());
+        if (consent.getVersion() != null) {
+            writer.writeInt64("version", consent.getVersion());
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Consent decode(BsonReader reader, DecoderContext context) {
+        UUID id = null;
+        Cpf cpf = null;
+        ConsentStatus status = null;
+        LocalDateTime creationDateTime = null;
+        LocalDateTime expirationDateTime = null;
+        String additionalInfo = null;
+        Long version = null;
+
+        reader.readStartDocument();
+        BsonType type;
+        while ((type = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (type == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (name) {
+                case "_id" -> id = readUuid(reader);
+                case "cpf" -> cpf = readCpf(reader, type);
+                case "status" -> status = ConsentStatus.valueOf(reader.readString());
+                case "creationDateTime" -> creationDateTime = readDateTime(reader);
+                case "expirationDateTime" -> expirationDateTime = readDateTime(reader);
+                case "additionalInfo" -> additionalInfo = reader.readString();
+                case "version" -> version = type == BsonType.INT32 ? reader.readInt32() : reader.readInt64();
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new Consent(id, cpf, status, creationDateTime, expirationDateTime, additionalInfo, version);
+    }
+
+    @Override
+    public Class<Consent> getEncoderClass() {
+        return Consent.class;
+    }
+
+}
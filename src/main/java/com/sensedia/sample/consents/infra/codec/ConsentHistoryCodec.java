@@ -0,0 +1,75 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.codec.CodecUtils.*;
+
+public class ConsentHistoryCodec implements Codec<ConsentHistory> {
+
+    @Override
+    public void encode(BsonWriter writer, ConsentHistory history, EncoderContext context) {
+        writer.writeStartDocument();
+        writeUuid(writer, "_id", history.getId());
+        writeUuid(writer, "consentId", history.getConsentId());
+        writeCpf(writer, "cpf", history.getCpf());
+        writeEnum(writer, "status", history.getStatus());
+        writeDateTime(writer, "expirationDateTime", history.getExpirationDateTime());
+        writeString(writer, "additionalInfo", history.getAdditionalInfo());
+        writeString(writer, "operation", history.getOperation());
+        writeDateTime(writer, "timestamp", history.getTimestamp());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public ConsentHistory decode(BsonReader reader, DecoderContext context) {
+        UUID id = null;
+        UUID consentId = null;
+        Cpf cpf = null;
+        ConsentStatus status = null;
+        LocalDateTime expirationDateTime = null;
+        String additionalInfo = null;
+        String operation = null;
+        LocalDateTime timestamp = null;
+
+        reader.readStartDocument();
+        BsonType type;
+        while ((type = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (type == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (name) {
+                case "_id" -> id = readUuid(reader);
+                case "consentId" -> consentId = readUuid(reader);
+                case "cpf" -> cpf = readCpf(reader, type);
+                case "status" -> status = ConsentStatus.valueOf(reader.readString());
+                case "expirationDateTime" -> expirationDateTime = readDateTime(reader);
+                case "additionalInfo" -> additionalInfo = reader.readString();
+                case "operation" -> operation = reader.readString();
+                case "timestamp" -> timestamp = readDateTime(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new ConsentHistory(id, consentId, cpf, status, expirationDateTime, additionalInfo, operation,
+                timestamp);
+    }
+
+    @Override
+    public Class<ConsentHistory> getEncoderClass() {
+        return ConsentHistory.class;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.mongodb.ReadPreference;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+record MappedQuery(Document filter, Document projection, Document sort, int skip, int limit, Integer batchSize,
+                   ReadPreference readPreference) {
+
+    static MappedQuery of(QueryMapper queryMapper, Query query, MongoPersistentEntity<?> entity) {
+        return new MappedQuery(
+                queryMapper.getMappedObject(query.getQueryObject(), entity),
+                queryMapper.getMappedFields(query.getFieldsObject(), entity),
+                queryMapper.getMappedSort(query.getSortObject(), entity),
+                (int) query.getSkip(),
+                query.isLimited() ? query.getLimit() : 0,
+                query.getMeta().getCursorBatchSize(),
+                query.hasReadPreference() ? query.getReadPreference() : null);
+    }
+
+}
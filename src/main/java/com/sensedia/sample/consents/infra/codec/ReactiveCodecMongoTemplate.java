@@ -0,0 +1,60 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@Profile("reactive")
+public class ReactiveCodecMongoTemplate {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public ReactiveCodecMongoTemplate(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    public <T> Flux<T> find(Query query, Class<T> entityClass) {
+        return mongoTemplate.execute(entityClass, collection -> prepare(collection, query, entityClass));
+    }
+
+    public <T> Mono<Integer> insertUnordered(List<? extends T> entities, Class<T> entityClass) {
+        return mongoTemplate.execute(entityClass, collection -> collection.withDocumentClass(entityClass)
+                        .insertMany(entities, new InsertManyOptions().ordered(false)))
+                .then(Mono.just(entities.size()))
+                .onErrorMap(MongoBulkWriteException.class, ex -> new BulkOperationException(ex.getMessage(), ex));
+    }
+
+    private <T> FindPublisher<T> prepare(MongoCollection<Document> collection, Query query, Class<T> entityClass) {
+        MappedQuery mapped = MappedQuery.of(queryMapper, query,
+                mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(entityClass));
+        MongoCollection<T> typed = collection.withDocumentClass(entityClass);
+        if (mapped.readPreference() != null) {
+            typed = typed.withReadPreference(mapped.readPreference());
+        }
+        FindPublisher<T> find = typed.find(mapped.filter())
+                .projection(mapped.projection())
+                .sort(mapped.sort())
+                .skip(mapped.skip())
+                .limit(mapped.limit());
+        if (mapped.batchSize() != null) {
+            find.batchSize(mapped.batchSize());
+        }
+        return find;
+    }
+
+}
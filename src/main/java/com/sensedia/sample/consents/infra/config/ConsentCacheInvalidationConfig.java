@@ -0,0 +1,77 @@
+package com.sensedia.sample.consents.infra.config;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.infra.util.BsonUuids;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BSONException;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "consents.cache", name = {"enabled", "change-stream-invalidation"},
+        havingValue = "true", matchIfMissing = true)
+public class ConsentCacheInvalidationConfig {
+
+    @Bean
+    public MessageListenerContainer consentCacheInvalidationContainer(MongoTemplate mongoTemplate,
+                                                                      ConsentCache consentCache) {
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer(mongoTemplate,
+                new SimpleAsyncTaskExecutor("consent-cache-invalidation-"),
+                ex -> {
+                    log.warn("Change stream de consentimentos encerrado. Cache local dependerá apenas do TTL: {}",
+                            ex.getMessage());
+                    consentCache.invalidateAll();
+                });
+
+        ChangeStreamRequest<Document> request = ChangeStreamRequest
+                .builder((Message<ChangeStreamDocument<Document>, Document> message) -> {
+                    UUID id = extractId(message.getRaw().getDocumentKey());
+                    if (id != null) {
+                        log.debug("Invalidando cache de consentimento alterado em outro nó. ID: {}", id);
+                        consentCache.invalidate(id);
+                    }
+                })
+                .collection(mongoTemplate.getCollectionName(Consent.class))
+                .filter(newAggregation(match(where("operationType").in("update", "replace", "delete"))))
+                .build();
+        container.register(request, Document.class);
+
+        return container;
+    }
+
+    static UUID extractId(BsonDocument documentKey) {
+        if (documentKey == null) {
+            return null;
+        }
+        BsonValue id = documentKey.get("_id");
+        if (id == null || !id.isBinary()) {
+            return null;
+        }
+        try {
+            return BsonUuids.toUuid(id.asBinary());
+        } catch (BSONException ex) {
+            log.warn("Evento de change stream ignorado: _id não é um UUID legível ({})", ex.getMessage());
+            return null;
+        }
+    }
+
+}
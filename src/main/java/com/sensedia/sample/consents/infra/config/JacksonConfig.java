@@ -0,0 +1,23 @@
+package com.sensedia.sample.consents.infra.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import com.sensedia.sample.consents.rest.serialization.ConsentJsonModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer consentFieldsFilterCustomizer() {
+        return builder -> builder.filters(ConsentFields.ALL_FIELDS);
+    }
+
+    @Bean
+    public Module consentJsonModule() {
+        return new ConsentJsonModule();
+    }
+
+}
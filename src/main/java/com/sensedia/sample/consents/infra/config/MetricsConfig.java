@@ -0,0 +1,35 @@
+package com.sensedia.sample.consents.infra.config;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.infra.lease.Lease;
+import com.sensedia.sample.consents.infra.metrics.MongoCommandMetricsListener;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MeterRegistry meterRegistry) {
+        Set<String> collections = Stream.of(Consent.class, ConsentHistory.class, ConsentHistoryBucket.class, Lease.class)
+                .map(type -> type.getAnnotation(Document.class).collection())
+                .collect(Collectors.toUnmodifiableSet());
+        return builder -> builder.addCommandListener(new MongoCommandMetricsListener(meterRegistry, collections));
+    }
+
+}
@@ -1,5 +1,14 @@
 package com.sensedia.sample.consents.infra.config;
 
+import com.mongodb.MongoClientSettings;
+import com.sensedia.sample.consents.infra.codec.ConsentCodec;
+import com.sensedia.sample.consents.infra.codec.ConsentHistoryCodec;
+import com.sensedia.sample.consents.infra.converter.CpfReadingConverter;
+import com.sensedia.sample.consents.infra.converter.CpfWritingConverter;
+import com.sensedia.sample.consents.infra.converter.LegacyUuidReadingConverter;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -7,16 +16,41 @@ import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
+import java.util.List;
+
 @Configuration
 public class MongoConfig {
 
+    public static final UuidRepresentation UUID_REPRESENTATION = UuidRepresentation.STANDARD;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoClientSettingsCustomizer() {
+        return builder -> builder
+                .uuidRepresentation(UUID_REPRESENTATION)
+                .codecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(new ConsentCodec(), new ConsentHistoryCodec()),
+                        MongoClientSettings.getDefaultCodecRegistry()));
+    }
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                new CpfWritingConverter(),
+                new CpfReadingConverter(),
+                new LegacyUuidReadingConverter()
+        ));
+    }
+
     @Bean
-    public MappingMongoConverter mappingMongoConverter(MongoDatabaseFactory factory, MongoMappingContext context) {
+    public MappingMongoConverter mappingMongoConverter(MongoDatabaseFactory factory, MongoMappingContext context,
+                                                       MongoCustomConversions conversions) {
         DbRefResolver dbRefResolver = new DefaultDbRefResolver(factory);
         MappingMongoConverter mappingConverter = new MappingMongoConverter(dbRefResolver, context);
         mappingConverter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        mappingConverter.setCustomConversions(conversions);
         return mappingConverter;
     }
 
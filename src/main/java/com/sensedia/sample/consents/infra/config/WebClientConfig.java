@@ -1,8 +1,13 @@
 package com.sensedia.sample.consents.infra.config;
 
+import com.sensedia.sample.consents.infra.config.properties.GitHubClientProperties;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -12,4 +17,21 @@ public class WebClientConfig {
         return WebClient.builder();
     }
 
+    @Bean
+    public WebClient gitHubWebClient(WebClient.Builder webClientBuilder, GitHubClientProperties properties) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("github")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireTimeout(properties.connectTimeout())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout());
+
+        return webClientBuilder.clone()
+                .baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consents.archive")
+public record ConsentArchiveProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("90d")
+        Duration archiveAfter,
+
+        @DefaultValue("1h")
+        Duration interval,
+
+        @DefaultValue("1000")
+        int bucketMaxRecords,
+
+        @DefaultValue("100000")
+        int maxRecordsPerRun,
+
+        @DefaultValue("10m")
+        Duration leaseTtl
+
+) {
+}
@@ -0,0 +1,13 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "consents.batch")
+public record ConsentBatchProperties(
+
+        @DefaultValue("10000")
+        int maxSize
+
+) {
+}
@@ -0,0 +1,24 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consents.cache")
+public record ConsentCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("10000")
+        long maxSize,
+
+        @DefaultValue("5m")
+        Duration ttl,
+
+        @DefaultValue("true")
+        boolean changeStreamInvalidation
+
+) {
+}
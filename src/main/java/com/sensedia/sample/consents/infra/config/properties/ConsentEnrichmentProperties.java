@@ -0,0 +1,22 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "consents.enrichment")
+public record ConsentEnrichmentProperties(
+
+        @DefaultValue("false")
+        boolean async,
+
+        @DefaultValue("4")
+        int concurrency,
+
+        @DefaultValue("1000")
+        int queueCapacity,
+
+        @DefaultValue("10000")
+        int backlogCapacity
+
+) {
+}
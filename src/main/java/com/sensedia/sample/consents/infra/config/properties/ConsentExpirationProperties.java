@@ -0,0 +1,27 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consents.expiration")
+public record ConsentExpirationProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("1m")
+        Duration interval,
+
+        @DefaultValue("1000")
+        int batchSize,
+
+        @DefaultValue("100")
+        int maxBatchesPerRun,
+
+        @DefaultValue("2m")
+        Duration leaseTtl
+
+) {
+}
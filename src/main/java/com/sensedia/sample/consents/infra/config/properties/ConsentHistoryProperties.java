@@ -0,0 +1,33 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consents.history")
+public record ConsentHistoryProperties(
+
+        @DefaultValue("false")
+        boolean writeBehind,
+
+        @DefaultValue("10000")
+        int queueCapacity,
+
+        @DefaultValue("500")
+        int batchSize,
+
+        @DefaultValue("200ms")
+        Duration flushInterval,
+
+        Path journalDir,
+
+        @DefaultValue("67108864")
+        long journalSegmentMaxBytes,
+
+        @DefaultValue("false")
+        boolean journalFsync
+
+) {
+}
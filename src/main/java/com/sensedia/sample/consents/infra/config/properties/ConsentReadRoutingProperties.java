@@ -0,0 +1,26 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import com.sensedia.sample.consents.infra.routing.ReadRoute;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "consents.read-routing")
+public record ConsentReadRoutingProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("secondaryPreferred")
+        String readPreference,
+
+        @DefaultValue("90s")
+        Duration maxStaleness,
+
+        @DefaultValue({"LIST", "SEARCH", "HISTORY"})
+        Set<ReadRoute> routes
+
+) {
+}
@@ -0,0 +1,13 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "consents.search")
+public record ConsentSearchProperties(
+
+        @DefaultValue("10000")
+        int countCap
+
+) {
+}
@@ -0,0 +1,33 @@
+package com.sensedia.sample.consents.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consents.github")
+public record GitHubClientProperties(
+
+        @DefaultValue("https://api.github.com/users")
+        String baseUrl,
+
+        @DefaultValue("20")
+        int maxConnections,
+
+        @DefaultValue("2s")
+        Duration connectTimeout,
+
+        @DefaultValue("3s")
+        Duration responseTimeout,
+
+        @DefaultValue("1000")
+        long cacheMaxSize,
+
+        @DefaultValue("30m")
+        Duration cacheTtl,
+
+        @DefaultValue("10m")
+        Duration cacheRefreshAfter
+
+) {
+}
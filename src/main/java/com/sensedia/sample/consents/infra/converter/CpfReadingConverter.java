@@ -0,0 +1,15 @@
+package com.sensedia.sample.consents.infra.converter;
+
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+@ReadingConverter
+public class CpfReadingConverter implements Converter<Long, Cpf> {
+
+    @Override
+    public Cpf convert(Long source) {
+        return new Cpf(source);
+    }
+
+}
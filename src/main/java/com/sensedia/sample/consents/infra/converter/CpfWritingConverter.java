@@ -0,0 +1,15 @@
+package com.sensedia.sample.consents.infra.converter;
+
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+@WritingConverter
+public class CpfWritingConverter implements Converter<Cpf, Long> {
+
+    @Override
+    public Long convert(Cpf source) {
+        return source.value();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.sensedia.sample.consents.infra.converter;
+
+import com.sensedia.sample.consents.infra.util.BsonUuids;
+import org.bson.BsonBinary;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.UUID;
+
+@ReadingConverter
+public class LegacyUuidReadingConverter implements Converter<Binary, UUID> {
+
+    @Override
+    public UUID convert(Binary source) {
+        return BsonUuids.toUuid(new BsonBinary(source.getType(), source.getData()));
+    }
+
+}
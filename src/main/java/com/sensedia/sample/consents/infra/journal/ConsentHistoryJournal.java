@@ -0,0 +1,221 @@
+package com.sensedia.sample.consents.infra.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+public class ConsentHistoryJournal implements Closeable {
+
+    private static final String PREFIX = "history-";
+    private static final String SUFFIX = ".journal";
+    private static final String DEAD_LETTER_PREFIX = "dead-letter-";
+
+    private final Path directory;
+    private final long segmentMaxBytes;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Path> recovered;
+    private final Set<Segment> rolled = new HashSet<>();
+
+    private long nextSequence;
+    private Segment active;
+
+    public ConsentHistoryJournal(Path directory, long segmentMaxBytes, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.fsync = fsync;
+        this.objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            this.recovered = files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        this.nextSequence = recovered.isEmpty() ? 0 : sequenceOf(recovered.get(recovered.size() - 1)) + 1;
+    }
+
+    public List<Path> recoveredSegments() {
+        return recovered;
+    }
+
+    public List<ConsentHistory> read(Path segment) throws IOException {
+        List<ConsentHistory> histories = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    histories.add(objectMapper.readValue(line, ConsentHistory.class));
+                } catch (IOException ex) {
+                    log.warn("Registro de histórico corrompido ignorado em {}: {}", segment.getFileName(), ex.getMessage());
+                }
+            }
+        }
+        return histories;
+    }
+
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    public Segment append(ConsentHistory history) throws IOException {
+        ByteBuffer buffer = line(history);
+        int length = buffer.remaining();
+
+        lock.lock();
+        try {
+            if (active == null || active.bytes >= segmentMaxBytes) {
+                roll();
+            }
+            while (buffer.hasRemaining()) {
+                active.channel.write(buffer);
+            }
+            if (fsync) {
+                active.channel.force(false);
+            }
+            active.bytes += length;
+            active.pending++;
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path deadLetter(List<ConsentHistory> histories) throws IOException {
+        Path path = Files.createTempFile(directory, DEAD_LETTER_PREFIX, SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            for (ConsentHistory history : histories) {
+                ByteBuffer buffer = line(history);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        }
+        return path;
+    }
+
+    public void acknowledge(Segment segment, int count) {
+        lock.lock();
+        try {
+            segment.pending -= count;
+            if (segment.pending > 0) return;
+            segment.close();
+            delete(segment.path);
+            rolled.remove(segment);
+            if (segment == active) {
+                active = null;
+            }
+        } catch (IOException ex) {
+            log.warn("Não foi possível remover o segmento de journal {}: {}", segment.path.getFileName(), ex.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int rolledSegmentsPending() {
+        lock.lock();
+        try {
+            return rolled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.close();
+                active = null;
+            }
+            if (!rolled.isEmpty()) {
+                log.warn("{} segmento(s) de journal com registros pendentes mantidos para replay", rolled.size());
+                rolled.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer line(ConsentHistory history) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(history);
+        return ByteBuffer.allocate(line.length + 1).put(line).put((byte) '\n').flip();
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            // o segmento não recebe mais escritas: fecha o canal já e mantém só a contagem pendente
+            active.close();
+            if (active.pending == 0) {
+                delete(active.path);
+            } else {
+                rolled.add(active);
+            }
+        }
+        Path path = directory.resolve(PREFIX + String.format("%019d", nextSequence++) + SUFFIX);
+        active = new Segment(path, FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    public static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private long bytes;
+        private int pending;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        private void close() throws IOException {
+            if (channel.isOpen()) {
+                channel.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.sensedia.sample.consents.infra.lease;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "leases")
+public class Lease {
+
+    @Id
+    private String name;
+
+    private String owner;
+
+    private Instant expiresAt;
+
+}
@@ -0,0 +1,48 @@
+package com.sensedia.sample.consents.infra.lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaseManager {
+
+    private static final String ID_FIELD = "_id";
+    private static final String OWNER_FIELD = "owner";
+    private static final String EXPIRES_AT_FIELD = "expiresAt";
+
+    private final MongoTemplate mongoTemplate;
+
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where(ID_FIELD).is(name)
+                .orOperator(Criteria.where(EXPIRES_AT_FIELD).lt(now), Criteria.where(OWNER_FIELD).is(owner)));
+        Update update = new Update()
+                .set(OWNER_FIELD, owner)
+                .set(EXPIRES_AT_FIELD, now.plus(ttl));
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Lease.class) != null;
+        } catch (DuplicateKeyException ex) {
+            log.debug("Lease '{}' mantido por outra instância", name);
+            return false;
+        }
+    }
+
+    public void release(String name, String owner) {
+        Query query = new Query(Criteria.where(ID_FIELD).is(name).and(OWNER_FIELD).is(owner));
+        mongoTemplate.remove(query, Lease.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.sensedia.sample.consents.infra.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConsentOutcomeMetrics {
+
+    private static final String NAME = "consents.outcomes";
+
+    private final Counter duplicateCpf;
+    private final Counter notFound;
+    private final Counter preconditionFailed;
+
+    public ConsentOutcomeMetrics(MeterRegistry meterRegistry) {
+        this.duplicateCpf = Counter.builder(NAME)
+                .description("Operações de consentimento rejeitadas por regra de negócio")
+                .tag("outcome", "duplicate_cpf")
+                .register(meterRegistry);
+        this.notFound = Counter.builder(NAME)
+                .description("Operações de consentimento rejeitadas por regra de negócio")
+                .tag("outcome", "not_found")
+                .register(meterRegistry);
+        this.preconditionFailed = Counter.builder(NAME)
+                .description("Operações de consentimento rejeitadas por regra de negócio")
+                .tag("outcome", "precondition_failed")
+                .register(meterRegistry);
+    }
+
+    public void duplicateCpf() {
+        duplicateCpf.increment();
+    }
+
+    public void duplicateCpf(long count) {
+        if (count > 0) {
+            duplicateCpf.increment(count);
+        }
+    }
+
+    public void notFound() {
+        notFound.increment();
+    }
+
+    public void preconditionFailed() {
+        preconditionFailed.increment();
+    }
+
+}
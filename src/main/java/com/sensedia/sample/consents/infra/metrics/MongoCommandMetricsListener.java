@@ -0,0 +1,132 @@
+package com.sensedia.sample.consents.infra.metrics;
+
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final Set<String> TRACKED_COMMANDS = Set.of("find", "getMore", "aggregate", "count", "distinct",
+            "insert", "update", "delete", "findAndModify");
+    private static final String OTHER = "other";
+    private static final String NONE = "none";
+    private static final BsonInt32 NO_COUNT = new BsonInt32(-1);
+    private static final BsonArray EMPTY = new BsonArray();
+    private static final BsonDocument EMPTY_DOCUMENT = new BsonDocument();
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> collections;
+    private final ConcurrentMap<Integer, String> inFlight = new ConcurrentHashMap<>();
+
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry, Set<String> collections) {
+        this.meterRegistry = meterRegistry;
+        this.collections = collections;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = command(event.getCommandName());
+        if (!OTHER.equals(command)) {
+            inFlight.put(event.getRequestId(), collection(event.getCommand(), event.getCommandName()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String command = command(event.getCommandName());
+        String collection = collectionOf(event.getRequestId(), command);
+        String serverType = serverType(event.getConnectionDescription());
+        timer(command, collection, serverType, "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        long documents = documents(command, event.getResponse());
+        if (documents >= 0) {
+            DistributionSummary.builder("consents.mongo.documents")
+                    .description("Documentos retornados ou afetados por comando do MongoDB")
+                    .tags("command", command, "collection", collection, "server.type", serverType)
+                    .register(meterRegistry)
+                    .record(documents);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String command = command(event.getCommandName());
+        String collection = collectionOf(event.getRequestId(), command);
+        timer(command, collection, serverType(event.getConnectionDescription()), "failure")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String command, String collection, String serverType, String status) {
+        return Timer.builder("consents.mongo.commands")
+                .description("Latência dos comandos enviados ao MongoDB")
+                .tags("command", command, "collection", collection, "server.type", serverType, "status", status)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private String collectionOf(int requestId, String command) {
+        String collection = inFlight.remove(requestId);
+        return collection != null ? collection : NONE;
+    }
+
+    private String collection(BsonDocument command, String commandName) {
+        BsonValue value = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        if (value == null || !value.isString()) {
+            return NONE;
+        }
+        String name = value.asString().getValue();
+        return collections.contains(name) ? name : OTHER;
+    }
+
+    private static String serverType(ConnectionDescription connection) {
+        if (connection == null) {
+            return NONE;
+        }
+        return switch (connection.getServerType()) {
+            case REPLICA_SET_PRIMARY -> "primary";
+            case REPLICA_SET_SECONDARY -> "secondary";
+            case STANDALONE -> "standalone";
+            case SHARD_ROUTER -> "mongos";
+            default -> OTHER;
+        };
+    }
+
+    private static String command(String commandName) {
+        return TRACKED_COMMANDS.contains(commandName) ? commandName : OTHER;
+    }
+
+    private static long documents(String command, BsonDocument response) {
+        return switch (command) {
+            case "find", "aggregate" -> batchSize(response, "firstBatch");
+            case "getMore" -> batchSize(response, "nextBatch");
+            case "insert", "update", "delete", "count" -> response.getNumber("n", NO_COUNT).longValue();
+            case "distinct" -> response.getArray("values", EMPTY).size();
+            case "findAndModify" -> response.getDocument("lastErrorObject", EMPTY_DOCUMENT)
+                    .getNumber("n", NO_COUNT).longValue();
+            default -> -1;
+        };
+    }
+
+    private static long batchSize(BsonDocument response, String field) {
+        BsonDocument cursor = response.getDocument("cursor", EMPTY_DOCUMENT);
+        return cursor.containsKey(field) ? cursor.getArray(field).size() : -1;
+    }
+
+}
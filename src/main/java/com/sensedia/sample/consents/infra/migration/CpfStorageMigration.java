@@ -0,0 +1,79 @@
+package com.sensedia.sample.consents.infra.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.result.UpdateResult;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "consents.migration", name = "cpf-to-long", havingValue = "true", matchIfMissing = true)
+public class CpfStorageMigration implements ApplicationRunner {
+
+    private static final String CPF_FIELD = "cpf";
+    private static final Pattern CONVERTIBLE_CPF = Pattern.compile("^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}|\\d{11})$");
+    private static final int MAX_LOGGED_IDS = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate(Consent.class);
+        migrate(ConsentHistory.class);
+    }
+
+    private void migrate(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        MongoCollection<Document> documents = mongoTemplate.getCollection(collection);
+        UpdateResult result = documents.updateMany(Filters.regex(CPF_FIELD, CONVERTIBLE_CPF),
+                List.of(toLongPipelineStage()));
+        if (result.getModifiedCount() > 0) {
+            log.info("Migrados {} documentos da coleção '{}' para CPF numérico", result.getModifiedCount(), collection);
+        }
+        logSkipped(documents, collection);
+    }
+
+    private static void logSkipped(MongoCollection<Document> documents, String collection) {
+        Bson malformed = Filters.and(Filters.type(CPF_FIELD, BsonType.STRING),
+                Filters.not(Filters.regex(CPF_FIELD, CONVERTIBLE_CPF)));
+        long skipped = documents.countDocuments(malformed);
+        if (skipped == 0) return;
+        List<Object> ids = documents.find(malformed)
+                .projection(Projections.include("_id"))
+                .limit(MAX_LOGGED_IDS)
+                .map(document -> document.get("_id"))
+                .into(new ArrayList<>());
+        log.warn("{} documentos da coleção '{}' mantidos com CPF em texto por formato inválido. IDs (até {}): {}",
+                skipped, collection, MAX_LOGGED_IDS, ids);
+    }
+
+    private static Document toLongPipelineStage() {
+        Document withoutDots = new Document("$replaceAll", new Document("input", "$" + CPF_FIELD)
+                .append("find", ".")
+                .append("replacement", ""));
+        Document digitsOnly = new Document("$replaceAll", new Document("input", withoutDots)
+                .append("find", "-")
+                .append("replacement", ""));
+        return new Document("$set", new Document(CPF_FIELD, new Document("$toLong", digitsOnly)));
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.sensedia.sample.consents.infra.migration;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "consents.migration", name = "drop-legacy-indexes", havingValue = "true",
+        matchIfMissing = true)
+public class LegacyIndexMigration implements ApplicationRunner {
+
+    private static final List<String> CONSENT_LEGACY_INDEXES = List.of("status_expirationDateTime");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations indexOps = mongoTemplate.indexOps(Consent.class);
+        indexOps.getIndexInfo().stream()
+                .filter(index -> CONSENT_LEGACY_INDEXES.contains(index.getName()))
+                .forEach(index -> {
+                    indexOps.dropIndex(index.getName());
+                    log.info("Índice legado '{}' removido da coleção de consentimentos", index.getName());
+                });
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.sensedia.sample.consents.infra.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.infra.lease.LeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.UuidRepresentation;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.config.MongoConfig.UUID_REPRESENTATION;
+
+@Slf4j
+@Component
+@Order(2)
+@ConditionalOnProperty(prefix = "consents.migration", name = "uuid-to-standard", havingValue = "true",
+        matchIfMissing = true)
+public class UuidStorageMigration implements ApplicationRunner {
+
+    private static final String ID_FIELD = "_id";
+    private static final String CONSENT_ID_FIELD = "consentId";
+    private static final String STAGING_SUFFIX = "_uuid_migration";
+    private static final String LEASE_NAME = "uuid-storage-migration";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+    private static final int BATCH_SIZE = 1000;
+    private static final int UUID_BYTES = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final LeaseManager leaseManager;
+    private final String owner;
+
+    public UuidStorageMigration(MongoTemplate mongoTemplate, LeaseManager leaseManager) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseManager = leaseManager;
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "consents") + "-" + UUID.randomUUID();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!leaseManager.tryAcquire(LEASE_NAME, owner, LEASE_TTL)) {
+            log.info("Migração de UUID em andamento em outra instância. Seguindo com a inicialização");
+            return;
+        }
+        try {
+            boolean completed = migrateIds(Consent.class)
+                    && migrateIds(ConsentHistory.class)
+                    && migrateConsentIds(ConsentHistoryBucket.class);
+            if (!completed) {
+                log.warn("Lease '{}' perdido. Migração de UUID interrompida; será retomada na próxima inicialização",
+                        LEASE_NAME);
+            }
+        } finally {
+            leaseManager.release(LEASE_NAME, owner);
+        }
+    }
+
+    private boolean migrateIds(Class<?> entityClass) {
+        String name = mongoTemplate.getCollectionName(entityClass);
+        MongoCollection<BsonDocument> collection = mongoTemplate.getDb().getCollection(name, BsonDocument.class);
+        String stagingName = name + STAGING_SUFFIX + "_" + owner;
+        MongoCollection<BsonDocument> staging = mongoTemplate.getDb().getCollection(stagingName, BsonDocument.class);
+
+        long migrated = recoverStaging(name, collection);
+        boolean holdsLease = true;
+        List<BsonDocument> batch;
+        while (holdsLease
+                && !(batch = collection.find(legacyUuid(ID_FIELD)).limit(BATCH_SIZE).into(new ArrayList<>())).isEmpty()) {
+            List<BsonDocument> converted = batch.stream().map(UuidStorageMigration::toStandard).toList();
+            staging.bulkWrite(converted.stream()
+                    .<WriteModel<BsonDocument>>map(document -> new ReplaceOneModel<>(
+                            Filters.eq(ID_FIELD, document.get(ID_FIELD)), document, new ReplaceOptions().upsert(true)))
+                    .toList());
+            migrated += replace(collection, staging, converted);
+            holdsLease = leaseManager.tryAcquire(LEASE_NAME, owner, LEASE_TTL);
+        }
+        staging.drop();
+        if (migrated > 0) {
+            log.info("Migrados {} documentos da coleção '{}' para UUID binário padrão", migrated, name);
+        }
+        return holdsLease;
+    }
+
+    // Cópias deixadas por instâncias que pararam no meio de um lote; só quem detém o lease as reaplica
+    private long recoverStaging(String name, MongoCollection<BsonDocument> collection) {
+        long recovered = 0;
+        for (String stagingName : mongoTemplate.getCollectionNames()) {
+            if (!stagingName.startsWith(name + STAGING_SUFFIX)) {
+                continue;
+            }
+            MongoCollection<BsonDocument> staging = mongoTemplate.getDb()
+                    .getCollection(stagingName, BsonDocument.class);
+            recovered += replace(collection, staging, staging.find().into(new ArrayList<>()));
+            if (staging.countDocuments() == 0) {
+                staging.drop();
+            }
+        }
+        return recovered;
+    }
+
+    private long replace(MongoCollection<BsonDocument> collection, MongoCollection<BsonDocument> staging,
+                         List<BsonDocument> converted) {
+        if (converted.isEmpty()) {
+            return 0;
+        }
+        List<WriteModel<BsonDocument>> writes = new ArrayList<>(converted.size() * 2);
+        List<BsonValue> ids = new ArrayList<>(converted.size());
+        for (BsonDocument document : converted) {
+            BsonValue id = document.get(ID_FIELD);
+            writes.add(new DeleteOneModel<>(Filters.eq(ID_FIELD, toLegacy(id))));
+            writes.add(new ReplaceOneModel<>(Filters.eq(ID_FIELD, id), document, new ReplaceOptions().upsert(true)));
+            ids.add(id);
+        }
+        collection.bulkWrite(writes);
+        staging.deleteMany(Filters.in(ID_FIELD, ids));
+        return converted.size();
+    }
+
+    private boolean migrateConsentIds(Class<?> entityClass) {
+        String name = mongoTemplate.getCollectionName(entityClass);
+        MongoCollection<BsonDocument> collection = mongoTemplate.getDb().getCollection(name, BsonDocument.class);
+
+        long migrated = 0;
+        boolean holdsLease = true;
+        List<BsonDocument> batch;
+        while (holdsLease && !(batch = collection.find(legacyUuid(CONSENT_ID_FIELD)).limit(BATCH_SIZE)
+                .into(new ArrayList<>())).isEmpty()) {
+            collection.bulkWrite(batch.stream()
+                    .<WriteModel<BsonDocument>>map(document -> new UpdateOneModel<>(
+                            Filters.eq(ID_FIELD, document.get(ID_FIELD)),
+                            Updates.set(CONSENT_ID_FIELD, toStandard(document.get(CONSENT_ID_FIELD)))))
+                    .toList());
+            migrated += batch.size();
+            holdsLease = leaseManager.tryAcquire(LEASE_NAME, owner, LEASE_TTL);
+        }
+        if (migrated > 0) {
+            log.info("Migrados {} documentos da coleção '{}' para UUID binário padrão", migrated, name);
+        }
+        return holdsLease;
+    }
+
+    private static Bson legacyUuid(String field) {
+        byte[] highest = new byte[UUID_BYTES];
+        Arrays.fill(highest, (byte) 0xFF);
+        return Filters.and(
+                Filters.gte(field, new BsonBinary(BsonBinarySubType.UUID_LEGACY, new byte[UUID_BYTES])),
+                Filters.lte(field, new BsonBinary(BsonBinarySubType.UUID_LEGACY, highest)));
+    }
+
+    private static BsonDocument toStandard(BsonDocument document) {
+        BsonDocument converted = document.clone();
+        converted.put(ID_FIELD, toStandard(document.get(ID_FIELD)));
+        if (document.containsKey(CONSENT_ID_FIELD)) {
+            converted.put(CONSENT_ID_FIELD, toStandard(document.get(CONSENT_ID_FIELD)));
+        }
+        return converted;
+    }
+
+    private static BsonValue toStandard(BsonValue value) {
+        if (!value.isBinary() || value.asBinary().getType() != BsonBinarySubType.UUID_LEGACY.getValue()) {
+            return value;
+        }
+        return new BsonBinary(value.asBinary().asUuid(UuidRepresentation.JAVA_LEGACY), UUID_REPRESENTATION);
+    }
+
+    private static BsonValue toLegacy(BsonValue value) {
+        return new BsonBinary(value.asBinary().asUuid(UUID_REPRESENTATION), UuidRepresentation.JAVA_LEGACY);
+    }
+
+}
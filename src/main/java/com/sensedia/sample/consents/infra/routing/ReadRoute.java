@@ -0,0 +1,9 @@
+package com.sensedia.sample.consents.infra.routing;
+
+public enum ReadRoute {
+
+    LIST,
+    SEARCH,
+    HISTORY
+
+}
@@ -0,0 +1,63 @@
+package com.sensedia.sample.consents.infra.routing;
+
+import com.mongodb.ReadPreference;
+import com.sensedia.sample.consents.infra.config.properties.ConsentReadRoutingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class ReadRouter {
+
+    private static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private final Map<ReadRoute, ReadPreference> preferences = new EnumMap<>(ReadRoute.class);
+    private final Map<ReadRoute, Counter> reads = new EnumMap<>(ReadRoute.class);
+
+    public ReadRouter(ConsentReadRoutingProperties properties, MeterRegistry meterRegistry) {
+        ReadPreference routed = properties.enabled()
+                ? readPreference(properties.readPreference(), properties.maxStaleness())
+                : ReadPreference.primary();
+        for (ReadRoute route : ReadRoute.values()) {
+            ReadPreference preference = properties.routes().contains(route) ? routed : ReadPreference.primary();
+            preferences.put(route, preference);
+            reads.put(route, Counter.builder("consents.mongo.reads")
+                    .description("Consultas de leitura por rota e read preference aplicada")
+                    .tags("route", route.name().toLowerCase(), "read.preference", preference.getName())
+                    .register(meterRegistry));
+        }
+        log.info("Roteamento de leituras: {}", preferences);
+    }
+
+    public Query route(Query query, ReadRoute route) {
+        reads.get(route).increment();
+        return query.withReadPreference(preferences.get(route));
+    }
+
+    public ReadPreference readPreference(ReadRoute route) {
+        reads.get(route).increment();
+        return preferences.get(route);
+    }
+
+    private static ReadPreference readPreference(String mode, Duration maxStaleness) {
+        ReadPreference preference = ReadPreference.valueOf(mode);
+        if (preference.equals(ReadPreference.primary()) || maxStaleness == null || maxStaleness.isZero()) {
+            return preference;
+        }
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("consents.read-routing.max-staleness deve ser de pelo menos "
+                    + MIN_MAX_STALENESS.toSeconds() + "s");
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.sensedia.sample.consents.infra.util;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.UuidRepresentation;
+
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.config.MongoConfig.UUID_REPRESENTATION;
+
+public class BsonUuids {
+
+    private BsonUuids() {
+    }
+
+    // Subtipo 3 ainda é gravado por réplicas antigas durante o rolling deploy, até a migração converter tudo
+    public static UUID toUuid(BsonBinary binary) {
+        if (binary.getType() == BsonBinarySubType.UUID_LEGACY.getValue()) {
+            return binary.asUuid(UuidRepresentation.JAVA_LEGACY);
+        }
+        return binary.asUuid(UUID_REPRESENTATION);
+    }
+
+}
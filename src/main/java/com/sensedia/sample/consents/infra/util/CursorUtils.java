@@ -0,0 +1,68 @@
+package com.sensedia.sample.consents.infra.util;
+
+import com.sensedia.sample.consents.rest.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+public class CursorUtils {
+
+    private static final int UUID_BYTES = 16;
+    private static final int TIMESTAMP_BYTES = Long.BYTES + Integer.BYTES;
+
+    private CursorUtils() {
+    }
+
+    public static String encode(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES)
+                .putLong(lastId.getMostSignificantBits())
+                .putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != UUID_BYTES) {
+                throw new InvalidCursorException("Cursor de paginação inválido: " + cursor);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+
+    public static String encode(LocalDateTime lastTimestamp, UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(TIMESTAMP_BYTES + UUID_BYTES)
+                .putLong(lastTimestamp.toEpochSecond(ZoneOffset.UTC))
+                .putInt(lastTimestamp.getNano())
+                .putLong(lastId.getMostSignificantBits())
+                .putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static TimestampCursor decodeTimestampCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != TIMESTAMP_BYTES + UUID_BYTES) {
+                throw new InvalidCursorException("Cursor de paginação inválido: " + cursor);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new TimestampCursor(timestamp, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+
+    public record TimestampCursor(LocalDateTime timestamp, UUID id) {
+    }
+
+}
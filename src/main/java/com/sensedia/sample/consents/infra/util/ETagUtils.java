@@ -0,0 +1,84 @@
+package com.sensedia.sample.consents.infra.util;
+
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final char VARIANT_SEPARATOR = '-';
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR, MediaType.valueOf("application/x-jackson-smile"),
+            MediaType.valueOf("application/x-protobuf"));
+
+    private ETagUtils() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * ETag de uma representação específica: a versão, seguida de um sufixo derivado da projeção e do formato
+     * negociado a partir de {@code Accept} quando não for o JSON completo. {@link #parseIfMatch} ignora o sufixo.
+     */
+    public static String of(Long version, ConsentProjection projection, String accept) {
+        MediaType representation = representation(accept);
+        if (projection.isAll() && MediaType.APPLICATION_JSON.equals(representation)) {
+            return of(version);
+        }
+        String fields = projection.isAll() ? "" : String.join(".", new TreeSet<>(projection.fields()));
+        String variant = fields + ";" + representation;
+        return "\"" + (version == null ? 0 : version) + VARIANT_SEPARATOR + Integer.toHexString(variant.hashCode())
+                + "\"";
+    }
+
+    private static MediaType representation(String accept) {
+        if (accept == null || accept.isBlank()) return MediaType.APPLICATION_JSON;
+        try {
+            List<MediaType> acceptable = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(acceptable);
+            for (MediaType type : acceptable) {
+                if (type.getQualityValue() == 0) continue;
+                for (MediaType representation : REPRESENTATIONS) {
+                    if (type.includes(representation)) return representation;
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Accept inválido é rejeitado pela negociação de conteúdo
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Converte o cabeçalho {@code If-Match} nas versões aceitas. Retorna {@code null} quando não há condição
+     * ({@code If-Match} ausente ou {@code *}); ETags fracas ou inválidas nunca casam (comparação forte).
+     */
+    public static Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (ANY.equals(value)) return null;
+            if (value.startsWith(WEAK_PREFIX) || value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            String opaque = value.substring(1, value.length() - 1);
+            int variant = opaque.indexOf(VARIANT_SEPARATOR);
+            try {
+                versions.add(Long.parseLong(variant < 0 ? opaque : opaque.substring(0, variant)));
+            } catch (NumberFormatException ignored) {
+                // ETag que não foi emitida por esta API: não casa com nenhuma versão
+            }
+        }
+        return versions;
+    }
+
+}
@@ -1,14 +1,27 @@
 package com.sensedia.sample.consents.infra.util;
 
+import com.sensedia.sample.consents.domain.model.Cpf;
+
 public class LogUtils {
 
+    private static final String MASKED = "***";
+
     private LogUtils() {
         // Ei, vc não pode instanciar esse treco =)
     }
 
     public static String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() != 14) return "***";
-        return cpf.replaceAll("(\\d{3})\\.(\\d{3})\\.(\\d{3})-(\\d{2})", "***.$2.***-$4");
+        if (cpf == null || cpf.length() != Cpf.FORMATTED_LENGTH || Cpf.pack(cpf) < 0) return MASKED;
+        char[] chars = cpf.toCharArray();
+        for (int i = 0; i < 3; i++) {
+            chars[i] = '*';
+            chars[i + 8] = '*';
+        }
+        return new String(chars);
+    }
+
+    public static String maskCpf(Cpf cpf) {
+        return cpf == null ? MASKED : cpf.masked();
     }
 
 }
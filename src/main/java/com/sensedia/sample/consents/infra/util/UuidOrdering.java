@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.infra.util;
+
+import org.bson.BsonBinary;
+import org.bson.UuidRepresentation;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+
+public class UuidOrdering {
+
+    private UuidOrdering() {
+    }
+
+    public static Comparator<UUID> asStoredBy(UuidRepresentation representation) {
+        return switch (representation) {
+            case STANDARD, PYTHON_LEGACY -> UuidOrdering::compareStandard;
+            case JAVA_LEGACY -> UuidOrdering::compareJavaLegacy;
+            default -> (a, b) -> Arrays.compareUnsigned(
+                    new BsonBinary(a, representation).getData(), new BsonBinary(b, representation).getData());
+        };
+    }
+
+    private static int compareStandard(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static int compareJavaLegacy(UUID a, UUID b) {
+        int high = Long.compareUnsigned(Long.reverseBytes(a.getMostSignificantBits()),
+                Long.reverseBytes(b.getMostSignificantBits()));
+        return high != 0 ? high : Long.compareUnsigned(Long.reverseBytes(a.getLeastSignificantBits()),
+                Long.reverseBytes(b.getLeastSignificantBits()));
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.sensedia.sample.consents.infra.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long timeAndSequence = nextTimeAndSequence(System.currentTimeMillis());
+        long mostSigBits = (timeAndSequence >>> SEQUENCE_BITS) << 16
+                | 0x7000L
+                | timeAndSequence & 0x0FFFL;
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimeAndSequence(long millis) {
+        long candidate = millis << SEQUENCE_BITS;
+        while (true) {
+            long last = LAST.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+}
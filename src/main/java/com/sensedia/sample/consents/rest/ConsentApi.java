@@ -1,65 +1,143 @@
 package com.sensedia.sample.consents.rest;
 
 import com.sensedia.sample.consents.application.service.ConsentService;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.infra.util.ETagUtils;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentSearchRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
 import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
-import lombok.RequiredArgsConstructor;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
 
 @RestController
-@RequiredArgsConstructor
+@Profile("!reactive")
 @Slf4j
 public class ConsentApi implements IConsentApi {
 
     private final ConsentService service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+
+    public ConsentApi(ConsentService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writerFor(ConsentResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
 
     @Override
     public ResponseEntity<ConsentResponseDTO> createConsent(ConsentRequestDTO dto) {
         log.info("Requisição recebida para criar consentimento: CPF={}", maskCpf(dto.cpf()));
         ConsentResponseDTO response = service.createConsent(dto);
         URI location = URI.create("/consents/" + response.id());
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location).eTag(ETagUtils.of(response.version())).body(response);
+    }
+
+    @Override
+    public ResponseEntity<ConsentBatchResponseDTO> createConsentsBatch(List<ConsentRequestDTO> dtos) {
+        log.info("Requisição recebida para criar consentimentos em lote: {} itens", dtos.size());
+        return ResponseEntity.ok(service.createConsentsBatch(dtos));
     }
 
     @Override
-    public ResponseEntity<List<ConsentResponseDTO>> getAllConsents() {
+    public ResponseEntity<List<ConsentResponseDTO>> getAllConsents(String fields) {
         log.info("Recebida requisição GET para listar todos os consentimentos");
-        return ResponseEntity.ok(service.getAllConsents());
+        return ResponseEntity.ok(service.getAllConsents(ConsentFields.parse(fields)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllConsents(String fields) {
+        log.info("Recebida requisição GET para listar todos os consentimentos em streaming (NDJSON)");
+        ConsentProjection projection = ConsentFields.parse(fields);
+        ObjectWriter writer = ndjsonWriter.with(ConsentFields.filters(projection));
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<ConsentResponseDTO> consents = service.streamAllConsents(projection);
+                 JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                consents.forEach(consent -> writeLine(writer, generator, consent));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Override
-    public ResponseEntity<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(int page, int size) {
+    public ResponseEntity<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(int page, int size, String fields) {
         log.info("Recebida requisição GET para listar consentimentos com paginação: página {}, tamanho {}", page, size);
-        return ResponseEntity.ok(service.getAllConsentsPaged(page, size));
+        return ResponseEntity.ok(service.getAllConsentsPaged(page, size, ConsentFields.parse(fields)));
     }
 
     @Override
-    public ResponseEntity<ConsentResponseDTO> getConsentById(UUID id) {
+    public ResponseEntity<CursorPageResponseDTO<ConsentResponseDTO>> getConsentsByCursor(String cursor, int size,
+                                                                                       boolean includeTotal,
+                                                                                       String fields) {
+        log.info("Recebida requisição GET para listar consentimentos por cursor: tamanho {}, total {}", size, includeTotal);
+        return ResponseEntity.ok(service.getConsentsByCursor(cursor, size, includeTotal, ConsentFields.parse(fields)));
+    }
+
+    @Override
+    public ResponseEntity<CursorPageResponseDTO<ConsentResponseDTO>> searchConsents(ConsentSearchRequestDTO search) {
+        log.info("Recebida requisição GET para buscar consentimentos filtrados: tamanho {}, contagem {}",
+                search.size(), search.count());
+        return ResponseEntity.ok(service.searchConsents(search.toFilter(), search.cursor(), search.size(),
+                search.count(), ConsentFields.parse(search.fields())));
+    }
+
+    @Override
+    public ResponseEntity<ConsentResponseDTO> getConsentById(UUID id, String fields, String accept) {
         log.info("Recebida requisição GET para buscar consentimento por ID: {}", id);
-        return ResponseEntity.ok(service.getConsentById(id));
+        ConsentProjection projection = ConsentFields.parse(fields);
+        ConsentResponseDTO response = service.getConsentById(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(response.version(), projection, accept))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
     }
 
     @Override
-    public ResponseEntity<ConsentResponseDTO> updateConsent(UUID id, ConsentUpdateDTO dto) {
+    public ResponseEntity<ConsentResponseDTO> updateConsent(UUID id, ConsentUpdateDTO dto, String ifMatch) {
         log.info("Recebida requisição PUT para atualizar consentimento ID: {}", id);
-        return ResponseEntity.ok(service.updateConsent(id, dto));
+        ConsentResponseDTO response = service.updateConsent(id, dto, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.of(response.version())).body(response);
     }
 
     @Override
-    public ResponseEntity<Void> deleteConsent(UUID id) {
+    public ResponseEntity<Void> deleteConsent(UUID id, String ifMatch) {
         log.info("Requisição para deletar consentimento ID: {}", id);
-        service.deleteConsent(id);
+        service.deleteConsent(id, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, ConsentResponseDTO consent) {
+        try {
+            writer.writeValue(generator, consent);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
 }
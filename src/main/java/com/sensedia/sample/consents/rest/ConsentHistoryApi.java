@@ -0,0 +1,88 @@
+package com.sensedia.sample.consents.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sensedia.sample.consents.application.service.ConsentHistoryService;
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
+
+@RestController
+@Profile("!reactive")
+@Slf4j
+public class ConsentHistoryApi implements IConsentHistoryApi {
+
+    private final ConsentHistoryService service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+
+    public ConsentHistoryApi(ConsentHistoryService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writerFor(ConsentHistoryResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public ResponseEntity<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByConsentId(
+            UUID id, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        log.info("Recebida requisição GET para consultar histórico do consentimento ID: {}", id);
+        return ResponseEntity.ok(service.getHistoryByConsentId(id, from, to, cursor, size));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamHistoryByConsentId(UUID id, LocalDateTime from,
+                                                                          LocalDateTime to) {
+        log.info("Recebida requisição GET para consultar histórico do consentimento ID: {} em streaming (NDJSON)", id);
+        return ndjson(service.streamHistoryByConsentId(id, from, to));
+    }
+
+    @Override
+    public ResponseEntity<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByCpf(
+            String cpf, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        log.info("Recebida requisição GET para consultar histórico por CPF: {}", maskCpf(cpf));
+        return ResponseEntity.ok(service.getHistoryByCpf(cpf, from, to, cursor, size));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamHistoryByCpf(String cpf, LocalDateTime from, LocalDateTime to) {
+        log.info("Recebida requisição GET para consultar histórico por CPF: {} em streaming (NDJSON)", maskCpf(cpf));
+        return ndjson(service.streamHistoryByCpf(cpf, from, to));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(Stream<ConsentHistoryResponseDTO> histories) {
+        StreamingResponseBody body = outputStream -> {
+            try (histories; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                histories.forEach(history -> writeLine(generator, history));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(JsonGenerator generator, ConsentHistoryResponseDTO history) {
+        try {
+            ndjsonWriter.writeValue(generator, history);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
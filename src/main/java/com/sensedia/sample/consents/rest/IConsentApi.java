@@ -1,8 +1,11 @@
 package com.sensedia.sample.consents.rest;
 
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentSearchRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
 import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
 import com.sensedia.sample.consents.rest.exception.handler.ApiErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,8 +15,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -43,35 +50,135 @@ public interface IConsentApi {
 	@PostMapping
 	ResponseEntity<ConsentResponseDTO> createConsent(@RequestBody @Valid ConsentRequestDTO dto);
 
+	@Operation(
+			summary = "Criar consentimentos em lote",
+			description = "Valida cada item, verifica todos os CPFs em uma única consulta e insere os válidos em uma "
+					+ "operação em lote não ordenada. Retorna o resultado individual de cada item (criado, duplicado ou inválido)."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Lote processado; verifique o resultado de cada item"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Lote acima do limite permitido ou corpo inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@PostMapping("/batch")
+	ResponseEntity<ConsentBatchResponseDTO> createConsentsBatch(@RequestBody List<ConsentRequestDTO> dtos);
+
 	@Operation(
 			summary = "Listar todos os consentimentos",
 			description = "Retorna todos os consentimentos cadastrados no sistema."
 	)
 	@ApiResponses({
-			@ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+			@ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Campo desconhecido em fields",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
 	})
 	@GetMapping
-	ResponseEntity<List<ConsentResponseDTO>> getAllConsents();
+	ResponseEntity<List<ConsentResponseDTO>> getAllConsents(
+			@Parameter(description = "Campos a retornar, separados por vírgula (ex.: status,expirationDateTime). O id sempre é incluído") @RequestParam(required = false) String fields
+	);
+
+	@Operation(
+			summary = "Listar todos os consentimentos em streaming (NDJSON)",
+			description = "Retorna todos os consentimentos, um JSON por linha, lidos diretamente de um cursor do MongoDB sem carregar a coleção inteira em memória."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Stream de consentimentos iniciado com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Campo desconhecido em fields",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamAllConsents(
+			@Parameter(description = "Campos a retornar, separados por vírgula (ex.: status,expirationDateTime). O id sempre é incluído") @RequestParam(required = false) String fields
+	);
 
 	@Operation(
 			summary = "Listar consentimentos com paginação",
 			description = "Retorna uma página de consentimentos conforme os parâmetros informados"
 	)
 	@ApiResponses({
-			@ApiResponse(responseCode = "200", description = "Página de consentimentos retornada com sucesso")
+			@ApiResponse(responseCode = "200", description = "Página de consentimentos retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Campo desconhecido em fields",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
 	})
 	@GetMapping("/paged")
 	ResponseEntity<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(
 			@Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
-			@Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size
+			@Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+			@Parameter(description = "Campos a retornar, separados por vírgula (ex.: status,expirationDateTime). O id sempre é incluído") @RequestParam(required = false) String fields
 	);
 
+	@Operation(
+			summary = "Listar consentimentos com paginação por cursor",
+			description = "Retorna uma página de consentimentos a partir de um cursor opaco (keyset por _id), "
+					+ "com latência constante independente da profundidade. A contagem total só é feita quando solicitada."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Página de consentimentos retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Cursor inválido ou campo desconhecido em fields",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping("/cursor")
+	ResponseEntity<CursorPageResponseDTO<ConsentResponseDTO>> getConsentsByCursor(
+			@Parameter(description = "Cursor retornado na página anterior (vazio para a primeira página)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+			@Parameter(description = "Se verdadeiro, inclui a contagem total de elementos") @RequestParam(defaultValue = "false") boolean includeTotal,
+			@Parameter(description = "Campos a retornar, separados por vírgula (ex.: status,expirationDateTime). O id sempre é incluído") @RequestParam(required = false) String fields
+	);
+
+	@Operation(
+			summary = "Buscar consentimentos por status e períodos",
+			description = "Filtra por status e pelos períodos [from, to) de expiração e de criação, com paginação por cursor. "
+					+ "Com período de expiração a ordem é (expirationDateTime, _id), servida pelo índice "
+					+ "{status, expirationDateTime, _id}; sem ele, (creationDateTime, _id) pelo índice "
+					+ "{status, creationDateTime, _id}. O total é opcional: exato, limitado ou estimado."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Página de consentimentos retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Filtro, período, cursor ou campo inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping("/search")
+	ResponseEntity<CursorPageResponseDTO<ConsentResponseDTO>> searchConsents(@ParameterObject ConsentSearchRequestDTO search);
+
 	@Operation(
 			summary = "Buscar consentimento por ID",
-			description = "Retorna os dados de um consentimento específico pelo seu identificador único (UUID)."
+			description = "Retorna os dados de um consentimento específico pelo seu identificador único (UUID). "
+					+ "A resposta traz um ETag forte com a versão do consentimento; enviando-o em If-None-Match, "
+					+ "a API responde 304 sem corpo enquanto o consentimento não mudar."
 	)
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "Consentimento encontrado"),
+			@ApiResponse(responseCode = "304", description = "Consentimento não foi alterado desde o ETag informado"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Campo desconhecido em fields",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			),
 			@ApiResponse(
 					responseCode = "404",
 					description = "Consentimento não encontrado",
@@ -80,11 +187,16 @@ public interface IConsentApi {
 			)
 	})
 	@GetMapping("/{id}")
-	ResponseEntity<ConsentResponseDTO> getConsentById(@PathVariable UUID id);
+	ResponseEntity<ConsentResponseDTO> getConsentById(
+			@PathVariable UUID id,
+			@Parameter(description = "Campos a retornar, separados por vírgula (ex.: status,expirationDateTime). O id sempre é incluído") @RequestParam(required = false) String fields,
+			@Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+	);
 
 	@Operation(
 			summary = "Atualizar consentimento existente",
-			description = "Atualiza completamente os dados de um consentimento existente, substituindo os campos atuais pelos novos valores enviados."
+			description = "Atualiza completamente os dados de um consentimento existente, substituindo os campos atuais pelos novos valores enviados. "
+					+ "Com If-Match, a atualização só é aplicada se o consentimento ainda estiver na versão informada."
 	)
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "Consentimento atualizado com sucesso"),
@@ -99,14 +211,25 @@ public interface IConsentApi {
 					description = "Consentimento não encontrado",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = ApiErrorResponse.class))
+			),
+			@ApiResponse(
+					responseCode = "412",
+					description = "A versão informada em If-Match não é a atual",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
 			)
 	})
 	@PutMapping("/{id}")
-	ResponseEntity<ConsentResponseDTO> updateConsent(@PathVariable UUID id, @RequestBody @Valid ConsentUpdateDTO dto);
+	ResponseEntity<ConsentResponseDTO> updateConsent(
+			@PathVariable UUID id,
+			@RequestBody @Valid ConsentUpdateDTO dto,
+			@Parameter(description = "ETag obtido na leitura do consentimento") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+	);
 
 	@Operation(
 			summary = "Revogar ou excluir consentimento",
-			description = "Remove um consentimento do sistema com base no seu identificador único (UUID)."
+			description = "Remove um consentimento do sistema com base no seu identificador único (UUID). "
+					+ "Com If-Match, a remoção só é aplicada se o consentimento ainda estiver na versão informada."
 	)
 	@ApiResponses({
 			@ApiResponse(responseCode = "204", description = "Consentimento removido com sucesso"),
@@ -115,9 +238,18 @@ public interface IConsentApi {
 					description = "Consentimento não encontrado",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = ApiErrorResponse.class))
+			),
+			@ApiResponse(
+					responseCode = "412",
+					description = "A versão informada em If-Match não é a atual",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
 			)
 	})
 	@DeleteMapping("/{id}")
-	ResponseEntity<Void> deleteConsent(@PathVariable UUID id);
+	ResponseEntity<Void> deleteConsent(
+			@PathVariable UUID id,
+			@Parameter(description = "ETag obtido na leitura do consentimento") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+	);
 
 }
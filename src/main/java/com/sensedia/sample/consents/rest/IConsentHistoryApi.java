@@ -0,0 +1,117 @@
+package com.sensedia.sample.consents.rest;
+
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.handler.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RequestMapping("/consents")
+public interface IConsentHistoryApi {
+
+	@Operation(
+			summary = "Consultar histórico de um consentimento",
+			description = "Retorna os eventos de histórico de um consentimento em ordem cronológica, opcionalmente "
+					+ "restritos ao período [from, to), com paginação por cursor (keyset por timestamp e _id) "
+					+ "servida pelo índice {consentId, timestamp, _id}."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Página de histórico retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Cursor ou período inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping("/{id}/history")
+	ResponseEntity<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByConsentId(
+			@PathVariable UUID id,
+			@Parameter(description = "Início do período, inclusivo (ISO-8601)", example = "2025-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@Parameter(description = "Fim do período, exclusivo (ISO-8601)", example = "2025-02-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@Parameter(description = "Cursor retornado na página anterior (vazio para a primeira página)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size
+	);
+
+	@Operation(
+			summary = "Consultar histórico de um consentimento em streaming (NDJSON)",
+			description = "Retorna todos os eventos de histórico do consentimento no período, um JSON por linha, "
+					+ "lidos diretamente de um cursor do MongoDB."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Stream de histórico iniciado com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Período inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping(value = "/{id}/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamHistoryByConsentId(
+			@PathVariable UUID id,
+			@Parameter(description = "Início do período, inclusivo (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@Parameter(description = "Fim do período, exclusivo (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+	);
+
+	@Operation(
+			summary = "Consultar histórico por CPF",
+			description = "Retorna os eventos de histórico de todos os consentimentos de um CPF em ordem cronológica, "
+					+ "opcionalmente restritos ao período [from, to), com paginação por cursor servida pelo índice "
+					+ "{cpf, timestamp, _id}."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Página de histórico retornada com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "CPF, cursor ou período inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping("/history")
+	ResponseEntity<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByCpf(
+			@Parameter(description = "CPF do titular", example = "123.456.789-09") @RequestParam String cpf,
+			@Parameter(description = "Início do período, inclusivo (ISO-8601)", example = "2025-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@Parameter(description = "Fim do período, exclusivo (ISO-8601)", example = "2025-02-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@Parameter(description = "Cursor retornado na página anterior (vazio para a primeira página)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size
+	);
+
+	@Operation(
+			summary = "Consultar histórico por CPF em streaming (NDJSON)",
+			description = "Retorna todos os eventos de histórico do CPF no período, um JSON por linha, "
+					+ "lidos diretamente de um cursor do MongoDB."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Stream de histórico iniciado com sucesso"),
+			@ApiResponse(
+					responseCode = "400",
+					description = "CPF ou período inválido",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = ApiErrorResponse.class))
+			)
+	})
+	@GetMapping(value = "/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	ResponseEntity<StreamingResponseBody> streamHistoryByCpf(
+			@Parameter(description = "CPF do titular", example = "123.456.789-09") @RequestParam String cpf,
+			@Parameter(description = "Início do período, inclusivo (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@Parameter(description = "Fim do período, exclusivo (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+	);
+
+}
@@ -0,0 +1,124 @@
+package com.sensedia.sample.consents.rest;
+
+import com.sensedia.sample.consents.application.service.ReactiveConsentService;
+import com.sensedia.sample.consents.infra.util.ETagUtils;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentSearchRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
+
+@RestController
+@RequestMapping("/consents")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveConsentApi {
+
+    private final ReactiveConsentService service;
+
+    @PostMapping
+    public Mono<ResponseEntity<ConsentResponseDTO>> createConsent(@RequestBody @Valid ConsentRequestDTO dto) {
+        log.info("Requisição recebida para criar consentimento: CPF={}", maskCpf(dto.cpf()));
+        return service.createConsent(dto)
+                .map(response -> ResponseEntity.created(URI.create("/consents/" + response.id()))
+                        .eTag(ETagUtils.of(response.version()))
+                        .body(response));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ConsentBatchResponseDTO>> createConsentsBatch(@RequestBody List<ConsentRequestDTO> dtos) {
+        log.info("Requisição recebida para criar consentimentos em lote: {} itens", dtos.size());
+        return service.createConsentsBatch(dtos)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ConsentResponseDTO> getAllConsents(@RequestParam(required = false) String fields) {
+        log.info("Recebida requisição GET para listar todos os consentimentos");
+        return Mono.fromSupplier(() -> ConsentFields.parse(fields))
+                .flatMapMany(service::getAllConsents);
+    }
+
+    @GetMapping("/paged")
+    public Mono<PageResponseDTO<ConsentResponseDTO>> getAllConsentsPaged(@RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "10") int size,
+                                                                         @RequestParam(required = false) String fields) {
+        log.info("Recebida requisição GET para listar consentimentos com paginação: página {}, tamanho {}", page, size);
+        return Mono.fromSupplier(() -> ConsentFields.parse(fields))
+                .flatMap(projection -> service.getAllConsentsPaged(page, size, projection));
+    }
+
+    @GetMapping("/cursor")
+    public Mono<CursorPageResponseDTO<ConsentResponseDTO>> getConsentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+        log.info("Recebida requisição GET para listar consentimentos por cursor: tamanho {}, total {}", size, includeTotal);
+        return Mono.fromSupplier(() -> ConsentFields.parse(fields))
+                .flatMap(projection -> service.getConsentsByCursor(cursor, size, includeTotal, projection));
+    }
+
+    @GetMapping("/search")
+    public Mono<CursorPageResponseDTO<ConsentResponseDTO>> searchConsents(ConsentSearchRequestDTO search) {
+        log.info("Recebida requisição GET para buscar consentimentos filtrados: tamanho {}, contagem {}",
+                search.size(), search.count());
+        return Mono.fromSupplier(() -> ConsentFields.parse(search.fields()))
+                .flatMap(projection -> service.searchConsents(search.toFilter(), search.cursor(), search.size(),
+                        search.count(), projection));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ConsentResponseDTO>> getConsentById(@PathVariable UUID id,
+                                                                   @RequestParam(required = false) String fields,
+                                                                   @RequestHeader(value = HttpHeaders.ACCEPT,
+                                                                           required = false) String accept) {
+        log.info("Recebida requisição GET para buscar consentimento por ID: {}", id);
+        return Mono.fromSupplier(() -> ConsentFields.parse(fields))
+                .flatMap(projection -> service.getConsentById(id)
+                        .map(response -> ResponseEntity.ok()
+                                .eTag(ETagUtils.of(response.version(), projection, accept))
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .body(response)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ConsentResponseDTO>> updateConsent(
+            @PathVariable UUID id,
+            @RequestBody @Valid ConsentUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Recebida requisição PUT para atualizar consentimento ID: {}", id);
+        return service.updateConsent(id, dto, ETagUtils.parseIfMatch(ifMatch))
+                .map(response -> ResponseEntity.ok().eTag(ETagUtils.of(response.version())).body(response));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteConsent(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Requisição para deletar consentimento ID: {}", id);
+        return service.deleteConsent(id, ETagUtils.parseIfMatch(ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
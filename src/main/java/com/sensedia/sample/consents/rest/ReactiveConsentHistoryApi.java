@@ -0,0 +1,74 @@
+package com.sensedia.sample.consents.rest;
+
+import com.sensedia.sample.consents.application.service.ConsentHistoryService;
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.sensedia.sample.consents.infra.util.LogUtils.maskCpf;
+
+@RestController
+@RequestMapping("/consents")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveConsentHistoryApi {
+
+    private final ConsentHistoryService service;
+
+    @GetMapping("/{id}/history")
+    public Mono<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByConsentId(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Recebida requisição GET para consultar histórico do consentimento ID: {}", id);
+        return Mono.fromCallable(() -> service.getHistoryByConsentId(id, from, to, cursor, size))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(value = "/{id}/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ConsentHistoryResponseDTO> streamHistoryByConsentId(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Recebida requisição GET para consultar histórico do consentimento ID: {} em streaming (NDJSON)", id);
+        return Flux.defer(() -> Flux.fromStream(service.streamHistoryByConsentId(id, from, to)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/history")
+    public Mono<CursorPageResponseDTO<ConsentHistoryResponseDTO>> getHistoryByCpf(
+            @RequestParam String cpf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Recebida requisição GET para consultar histórico por CPF: {}", maskCpf(cpf));
+        return Mono.fromCallable(() -> service.getHistoryByCpf(cpf, from, to, cursor, size))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(value = "/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ConsentHistoryResponseDTO> streamHistoryByCpf(
+            @RequestParam String cpf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Recebida requisição GET para consultar histórico por CPF: {} em streaming (NDJSON)", maskCpf(cpf));
+        return Flux.defer(() -> Flux.fromStream(service.streamHistoryByCpf(cpf, from, to)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.sensedia.sample.consents.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado do processamento de um item do lote")
+public record ConsentBatchItemResultDTO(
+
+        @Schema(description = "Posição do item na lista enviada (começa em 0)", example = "0")
+        int index,
+
+        @Schema(description = "CPF do item processado", example = "123.456.789-09")
+        String cpf,
+
+        @Schema(description = "Resultado do processamento do item", example = "CREATED")
+        Status status,
+
+        @Schema(description = "Identificador do consentimento criado", example = "df1d3ef5-b253-4e7b-bf2c-70a0c5df3ae0")
+        UUID id,
+
+        @Schema(description = "Mensagens de erro do item, quando houver", example = "[\"cpf: CPF é obrigatório\"]")
+        List<String> errors
+
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static ConsentBatchItemResultDTO created(int index, String cpf, UUID id) {
+        return new ConsentBatchItemResultDTO(index, cpf, Status.CREATED, id, null);
+    }
+
+    public static ConsentBatchItemResultDTO duplicate(int index, String cpf) {
+        return new ConsentBatchItemResultDTO(index, cpf, Status.DUPLICATE, null,
+                List.of("Já existe um consentimento com este CPF: " + cpf));
+    }
+
+    public static ConsentBatchItemResultDTO invalid(int index, String cpf, List<String> errors) {
+        return new ConsentBatchItemResultDTO(index, cpf, Status.INVALID, null, errors);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da criação de consentimentos em lote")
+public record ConsentBatchResponseDTO(
+
+        @Schema(description = "Quantidade de consentimentos criados", example = "98")
+        int created,
+
+        @Schema(description = "Quantidade de itens rejeitados por CPF duplicado", example = "1")
+        int duplicates,
+
+        @Schema(description = "Quantidade de itens rejeitados por dados inválidos", example = "1")
+        int invalid,
+
+        @Schema(description = "Resultado individual de cada item, na mesma ordem do envio")
+        List<ConsentBatchItemResultDTO> items
+
+) {
+
+    public static ConsentBatchResponseDTO of(List<ConsentBatchItemResultDTO> items) {
+        int created = 0, duplicates = 0, invalid = 0;
+        for (ConsentBatchItemResultDTO item : items) {
+            switch (item.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new ConsentBatchResponseDTO(created, duplicates, invalid, items);
+    }
+
+}
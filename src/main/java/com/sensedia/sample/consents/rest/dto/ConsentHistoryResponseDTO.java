@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.rest.dto;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Registro do histórico de alterações de um consentimento")
+public record ConsentHistoryResponseDTO(
+
+        @Schema(description = "Identificador único do registro de histórico", example = "e12c8a4b-0e1c-49d0-bac8-4e6123a934dd")
+        UUID id,
+
+        @Schema(description = "ID do consentimento original", example = "df1d3ef5-b253-4e7b-bf2c-70a0c5df3ae0")
+        UUID consentId,
+
+        @Schema(description = "CPF do consentimento", example = "123.456.789-09")
+        String cpf,
+
+        @Schema(description = "Status do consentimento no momento da alteração", example = "REVOKED")
+        ConsentStatus status,
+
+        @Schema(description = "Data de expiração registrada na alteração", example = "2026-12-31T23:59:59")
+        LocalDateTime expirationDateTime,
+
+        @Schema(description = "Informações adicionais registradas", example = "Revogado manualmente")
+        String additionalInfo,
+
+        @Schema(description = "Tipo da operação realizada", example = "UPDATED")
+        String operation,
+
+        @Schema(description = "Data e hora da operação", example = "2025-04-11T15:30:00")
+        LocalDateTime timestamp
+) {
+}
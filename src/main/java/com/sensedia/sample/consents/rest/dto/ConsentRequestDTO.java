@@ -2,9 +2,9 @@ package com.sensedia.sample.consents.rest.dto;
 
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import com.sensedia.sample.consents.rest.validation.ValidCpf;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
@@ -12,9 +12,9 @@ import java.time.LocalDateTime;
 @Schema(description = "Dados de entrada para criar um novo consentimento")
 public record ConsentRequestDTO(
 
-        @Schema(description = "CPF do usuário", example = "123.456.789-00")
+        @Schema(description = "CPF do usuário", example = "123.456.789-09")
         @NotBlank(message = "CPF é obrigatório")
-        @Pattern(regexp = "\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}", message = "CPF deve estar no formato ###.###.###-##")
+        @ValidCpf
         String cpf,
 
         @Schema(description = "Status do consentimento", example = "ACTIVE")
@@ -1,18 +1,22 @@
 package com.sensedia.sample.consents.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Schema(description = "Dados retornados de um consentimento")
+@JsonFilter(ConsentFields.FILTER_ID)
 public record ConsentResponseDTO(
 
         @Schema(description = "Identificador único do consentimento", example = "df1d3ef5-b253-4e7b-bf2c-70a0c5df3ae0")
         UUID id,
 
-        @Schema(description = "CPF do usuário", example = "123.456.789-00")
+        @Schema(description = "CPF do usuário", example = "123.456.789-09")
         String cpf,
 
         @Schema(description = "Status atual do consentimento", example = "ACTIVE")
@@ -25,6 +29,10 @@ public record ConsentResponseDTO(
         LocalDateTime expirationDateTime,
 
         @Schema(description = "Informações adicionais fornecidas pelo usuário", example = "Termo de aceite digital")
-        String additionalInfo
+        String additionalInfo,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long version
 ) {
 }
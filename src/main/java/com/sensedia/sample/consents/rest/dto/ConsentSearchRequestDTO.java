@@ -0,0 +1,61 @@
+package com.sensedia.sample.consents.rest.dto;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@Schema(description = "Parâmetros da busca filtrada de consentimentos")
+public record ConsentSearchRequestDTO(
+
+        @Schema(description = "Status aceitos; vazio para todos", example = "ACTIVE")
+        List<ConsentStatus> status,
+
+        @Schema(description = "Expiração a partir de, inclusivo (ISO-8601)", example = "2026-01-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime expiresFrom,
+
+        @Schema(description = "Expiração antes de, exclusivo (ISO-8601)", example = "2026-02-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime expiresTo,
+
+        @Schema(description = "Criação a partir de, inclusivo (ISO-8601)", example = "2025-01-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdFrom,
+
+        @Schema(description = "Criação antes de, exclusivo (ISO-8601)", example = "2025-02-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdTo,
+
+        @Schema(description = "Cursor retornado na página anterior (vazio para a primeira página)")
+        String cursor,
+
+        @Schema(description = "Tamanho da página", example = "10", defaultValue = "10")
+        Integer size,
+
+        @Schema(description = "Forma de contagem do total", example = "CAPPED", defaultValue = "NONE")
+        CountMode count,
+
+        @Schema(description = "Campos a retornar, separados por vírgula. O id sempre é incluído", example = "status,expirationDateTime")
+        String fields
+
+) {
+
+    private static final int DEFAULT_SIZE = 10;
+
+    public ConsentSearchRequestDTO {
+        size = size == null ? DEFAULT_SIZE : size;
+        count = count == null ? CountMode.NONE : count;
+    }
+
+    public ConsentSearchFilter toFilter() {
+        return new ConsentSearchFilter(status == null ? null : Set.copyOf(status),
+                expiresFrom, expiresTo, createdFrom, createdTo);
+    }
+
+}
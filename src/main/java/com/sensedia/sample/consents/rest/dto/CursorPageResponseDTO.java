@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resposta paginada por cursor (keyset) da API")
+public record CursorPageResponseDTO<T>(
+
+        @Schema(description = "Lista de itens da página atual")
+        List<T> content,
+
+        @Schema(description = "Quantidade máxima de elementos por página", example = "10")
+        int size,
+
+        @Schema(description = "Cursor opaco para buscar a próxima página; ausente quando não há mais itens",
+                example = "3x0-9bJSTnu_LHCgxd86-A")
+        String nextCursor,
+
+        @Schema(description = "Quantidade total de elementos; presente somente quando solicitado via includeTotal ou count",
+                example = "57")
+        Long totalElements,
+
+        @Schema(description = "Presente com count=CAPPED; verdadeiro quando a contagem parou no limite e totalElements "
+                + "é apenas um mínimo", example = "false")
+        Boolean totalCapped
+
+) {
+
+    public CursorPageResponseDTO(List<T> content, int size, String nextCursor, Long totalElements) {
+        this(content, size, nextCursor, totalElements, null);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.sensedia.sample.consents.rest.exception;
+
+public class BatchLimitExceededException extends RuntimeException {
+
+    public BatchLimitExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.sensedia.sample.consents.rest.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.sensedia.sample.consents.rest.exception;
+
+public class InvalidFilterException extends RuntimeException {
+
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+
+}
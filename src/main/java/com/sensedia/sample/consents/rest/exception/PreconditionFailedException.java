@@ -0,0 +1,9 @@
+package com.sensedia.sample.consents.rest.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.sensedia.sample.consents.rest.mapper;
 
 import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
@@ -13,5 +16,14 @@ public interface ConsentMapper {
     Consent toEntity(ConsentRequestDTO dto);
     ConsentResponseDTO toResponseDTO(Consent entity);
     void updateEntityFromDto(ConsentUpdateDTO dto, @MappingTarget Consent entity);
+    ConsentHistoryResponseDTO toHistoryResponseDTO(ConsentHistory history);
+
+    default Cpf toCpf(String cpf) {
+        return cpf == null ? null : Cpf.parse(cpf);
+    }
+
+    default String fromCpf(Cpf cpf) {
+        return cpf == null ? null : cpf.toString();
+    }
 
 }
@@ -0,0 +1,76 @@
+package com.sensedia.sample.consents.rest.projection;
+
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ConsentFields {
+
+    public static final String PARAMETER = "fields";
+    public static final String FILTER_ID = "consentFields";
+    public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    private static final String ID = "id";
+    private static final List<String> SUPPORTED = List.of(ID, "cpf", "status", "creationDateTime",
+            "expirationDateTime", "additionalInfo");
+
+    private ConsentFields() {
+    }
+
+    public static ConsentProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) return ConsentProjection.ALL;
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!SUPPORTED.contains(name)) {
+                throw new InvalidFilterException("Campo desconhecido em 'fields': " + name
+                        + ". Valores aceitos: " + String.join(", ", SUPPORTED));
+            }
+            selected.add(name);
+        }
+        return selected.size() == SUPPORTED.size() ? ConsentProjection.ALL : new ConsentProjection(Set.copyOf(selected));
+    }
+
+    public static FilterProvider filters(ConsentProjection projection) {
+        if (projection.isAll()) return ALL_FIELDS;
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER_ID, new Selection(projection.fields()));
+    }
+
+    public static final class Selection extends SimpleBeanPropertyFilter {
+
+        private final Set<String> fields;
+
+        private Selection(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        public boolean includes(String field) {
+            return fields.contains(field);
+        }
+
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return includes(writer.getName());
+        }
+
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            return includes(writer.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.sensedia.sample.consents.rest.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConsentFieldsJsonEncoder extends Jackson2JsonEncoder {
+
+    private static final String FILTERS_HINT = ConsentFieldsJsonEncoder.class.getName() + ".filters";
+
+    public ConsentFieldsJsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(ResolvableType actualType, ResolvableType elementType,
+                                              MediaType mediaType, ServerHttpRequest request,
+                                              ServerHttpResponse response) {
+        return withFilters(super.getEncodeHints(actualType, elementType, mediaType, request, response), request);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, MimeType mimeType, ResolvableType elementType,
+                                           Map<String, Object> hints) {
+        return withFilters(writer, hints);
+    }
+
+    static Map<String, Object> withFilters(Map<String, Object> hints, ServerHttpRequest request) {
+        String fields = request.getQueryParams().getFirst(ConsentFields.PARAMETER);
+        if (fields == null) return hints;
+        try {
+            ConsentProjection projection = ConsentFields.parse(fields);
+            if (projection.isAll()) return hints;
+            Map<String, Object> withFilters = new HashMap<>(hints);
+            withFilters.put(FILTERS_HINT, ConsentFields.filters(projection));
+            return withFilters;
+        } catch (InvalidFilterException ex) {
+            return hints;
+        }
+    }
+
+    static ObjectWriter withFilters(ObjectWriter writer, Map<String, Object> hints) {
+        Object filters = hints != null ? hints.get(FILTERS_HINT) : null;
+        return filters instanceof FilterProvider provider ? writer.with(provider) : writer;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.sensedia.sample.consents.rest.projection;
+
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.rest.ConsentApi;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import com.sensedia.sample.consents.rest.serialization.ConsentProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+@Profile("!reactive")
+@RestControllerAdvice(assignableTypes = ConsentApi.class)
+public class ConsentFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType)
+                || ConsentProtobufHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) return;
+        try {
+            ConsentProjection projection = ConsentFields.parse(
+                    servletRequest.getServletRequest().getParameter(ConsentFields.PARAMETER));
+            if (!projection.isAll()) {
+                bodyContainer.setFilters(ConsentFields.filters(projection));
+            }
+        } catch (InvalidFilterException ex) {
+            // a resposta de erro já foi produzida pelo controller
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.sensedia.sample.consents.rest.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+public class ConsentFieldsSmileEncoder extends Jackson2SmileEncoder {
+
+    public static final MimeType[] SMILE_MIME_TYPES = {
+            new MimeType("application", "x-jackson-smile"),
+            new MimeType("application", "*+x-jackson-smile")};
+
+    public ConsentFieldsSmileEncoder(ObjectMapper objectMapper) {
+        super(objectMapper, SMILE_MIME_TYPES);
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(ResolvableType actualType, ResolvableType elementType,
+                                              MediaType mediaType, ServerHttpRequest request,
+                                              ServerHttpResponse response) {
+        return ConsentFieldsJsonEncoder.withFilters(
+                super.getEncodeHints(actualType, elementType, mediaType, request, response), request);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, MimeType mimeType, ResolvableType elementType,
+                                           Map<String, Object> hints) {
+        return ConsentFieldsJsonEncoder.withFilters(writer, hints);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+
+public class ConsentJsonModule extends SimpleModule {
+
+    public ConsentJsonModule() {
+        super(ConsentJsonModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() != ConsentResponseDTO.class
+                        || config.getPropertyNamingStrategy() != null) {
+                    return serializer;
+                }
+                return new ConsentResponseSerializer((JsonSerializer<Object>) serializer);
+            }
+        });
+    }
+
+}
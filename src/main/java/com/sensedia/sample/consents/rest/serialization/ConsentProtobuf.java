@@ -0,0 +1,350 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.handler.ApiErrorResponse;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Codifica as respostas de consentimento no formato descrito em {@code src/main/proto/consents.proto},
+ * sem classes geradas pelo {@code protoc}.
+ */
+public final class ConsentProtobuf {
+
+    public static final String PACKAGE = "sensedia.consents.v1";
+
+    private static final int CONSENT_ID = 1;
+    private static final int CONSENT_CPF = 2;
+    private static final int CONSENT_STATUS = 3;
+    private static final int CONSENT_CREATION_DATE_TIME = 4;
+    private static final int CONSENT_EXPIRATION_DATE_TIME = 5;
+    private static final int CONSENT_ADDITIONAL_INFO = 6;
+
+    private static final int DATE_TIME_SECONDS = 1;
+    private static final int DATE_TIME_NANOS = 2;
+
+    private static final int CONTENT = 1;
+    private static final int PAGE_PAGE = 2;
+    private static final int PAGE_SIZE = 3;
+    private static final int PAGE_TOTAL_ELEMENTS = 4;
+    private static final int PAGE_TOTAL_PAGES = 5;
+    private static final int CURSOR_SIZE = 2;
+    private static final int CURSOR_NEXT_CURSOR = 3;
+    private static final int CURSOR_TOTAL_ELEMENTS = 4;
+    private static final int CURSOR_TOTAL_CAPPED = 5;
+
+    private static final int ERROR_STATUS = 1;
+    private static final int ERROR_ERROR = 2;
+    private static final int ERROR_MESSAGE = 3;
+    private static final int ERROR_TIMESTAMP = 4;
+    private static final int ERROR_DETAILS = 5;
+
+    private static final String[] FIELD_NAMES = {null, "id", "cpf", "status", "creationDateTime",
+            "expirationDateTime", "additionalInfo"};
+    private static final int ALL_FIELDS = 0b111_1110;
+    private static final int UUID_BYTES = 16;
+    private static final ConsentStatus[] STATUSES = ConsentStatus.values();
+
+    private ConsentProtobuf() {
+    }
+
+    public static String messageName(Object body) {
+        if (body instanceof ConsentResponseDTO) return PACKAGE + ".Consent";
+        if (body instanceof PageResponseDTO<?>) return PACKAGE + ".ConsentPage";
+        if (body instanceof CursorPageResponseDTO<?>) return PACKAGE + ".ConsentCursorPage";
+        if (body instanceof ApiErrorResponse) return PACKAGE + ".ApiError";
+        return PACKAGE + ".ConsentList";
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void write(Object body, ConsentFields.Selection selection, CodedOutputStream out)
+            throws IOException {
+        int fields = fields(selection);
+        switch (body) {
+            case ConsentResponseDTO consent -> writeConsentFields(consent, fields, out);
+            case PageResponseDTO<?> page -> writePage((PageResponseDTO<ConsentResponseDTO>) page, fields, out);
+            case CursorPageResponseDTO<?> page ->
+                    writeCursorPage((CursorPageResponseDTO<ConsentResponseDTO>) page, fields, out);
+            case List<?> content -> writeContent((List<ConsentResponseDTO>) content, fields, out);
+            case ApiErrorResponse error -> writeError(error, out);
+            default -> throw new IllegalArgumentException("Tipo sem representação Protobuf: " + body.getClass());
+        }
+    }
+
+    public static ConsentResponseDTO readConsent(CodedInputStream in) throws IOException {
+        UUID id = null;
+        String cpf = null;
+        ConsentStatus status = null;
+        LocalDateTime creationDateTime = null;
+        LocalDateTime expirationDateTime = null;
+        String additionalInfo = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONSENT_ID -> id = readUuid(in);
+                case CONSENT_CPF -> cpf = in.readString();
+                case CONSENT_STATUS -> status = readStatus(in);
+                case CONSENT_CREATION_DATE_TIME -> creationDateTime = readMessage(in, ConsentProtobuf::readDateTime);
+                case CONSENT_EXPIRATION_DATE_TIME ->
+                        expirationDateTime = readMessage(in, ConsentProtobuf::readDateTime);
+                case CONSENT_ADDITIONAL_INFO -> additionalInfo = in.readString();
+                default -> in.skipField(tag);
+            }
+        }
+        return new ConsentResponseDTO(id, cpf, status, creationDateTime, expirationDateTime, additionalInfo, null);
+    }
+
+    public static List<ConsentResponseDTO> readList(CodedInputStream in) throws IOException {
+        List<ConsentResponseDTO> content = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == CONTENT) {
+                content.add(readMessage(in, ConsentProtobuf::readConsent));
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return content;
+    }
+
+    public static PageResponseDTO<ConsentResponseDTO> readPage(CodedInputStream in) throws IOException {
+        List<ConsentResponseDTO> content = new ArrayList<>();
+        int page = 0;
+        int size = 0;
+        long totalElements = 0;
+        int totalPages = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONTENT -> content.add(readMessage(in, ConsentProtobuf::readConsent));
+                case PAGE_PAGE -> page = in.readInt32();
+                case PAGE_SIZE -> size = in.readInt32();
+                case PAGE_TOTAL_ELEMENTS -> totalElements = in.readInt64();
+                case PAGE_TOTAL_PAGES -> totalPages = in.readInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        return new PageResponseDTO<>(content, page, size, totalElements, totalPages);
+    }
+
+    public static CursorPageResponseDTO<ConsentResponseDTO> readCursorPage(CodedInputStream in) throws IOException {
+        List<ConsentResponseDTO> content = new ArrayList<>();
+        int size = 0;
+        String nextCursor = null;
+        Long totalElements = null;
+        Boolean totalCapped = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONTENT -> content.add(readMessage(in, ConsentProtobuf::readConsent));
+                case CURSOR_SIZE -> size = in.readInt32();
+                case CURSOR_NEXT_CURSOR -> nextCursor = in.readString();
+                case CURSOR_TOTAL_ELEMENTS -> totalElements = in.readInt64();
+                case CURSOR_TOTAL_CAPPED -> totalCapped = in.readBool();
+                default -> in.skipField(tag);
+            }
+        }
+        return new CursorPageResponseDTO<>(content, size, nextCursor, totalElements, totalCapped);
+    }
+
+    public static ApiErrorResponse readError(CodedInputStream in) throws IOException {
+        var error = ApiErrorResponse.builder();
+        List<String> details = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ERROR_STATUS -> error.status(in.readInt32());
+                case ERROR_ERROR -> error.error(in.readString());
+                case ERROR_MESSAGE -> error.message(in.readString());
+                case ERROR_TIMESTAMP -> error.timestamp(readMessage(in, ConsentProtobuf::readDateTime));
+                case ERROR_DETAILS -> details.add(in.readString());
+                default -> in.skipField(tag);
+            }
+        }
+        return error.details(details.isEmpty() ? null : details).build();
+    }
+
+    private static void writePage(PageResponseDTO<ConsentResponseDTO> page, int fields, CodedOutputStream out)
+            throws IOException {
+        writeContent(page.content(), fields, out);
+        if (page.page() != 0) out.writeInt32(PAGE_PAGE, page.page());
+        if (page.size() != 0) out.writeInt32(PAGE_SIZE, page.size());
+        if (page.totalElements() != 0) out.writeInt64(PAGE_TOTAL_ELEMENTS, page.totalElements());
+        if (page.totalPages() != 0) out.writeInt32(PAGE_TOTAL_PAGES, page.totalPages());
+    }
+
+    private static void writeCursorPage(CursorPageResponseDTO<ConsentResponseDTO> page, int fields,
+                                        CodedOutputStream out) throws IOException {
+        writeContent(page.content(), fields, out);
+        if (page.size() != 0) out.writeInt32(CURSOR_SIZE, page.size());
+        if (page.nextCursor() != null) out.writeString(CURSOR_NEXT_CURSOR, page.nextCursor());
+        if (page.totalElements() != null) out.writeInt64(CURSOR_TOTAL_ELEMENTS, page.totalElements());
+        if (page.totalCapped() != null) out.writeBool(CURSOR_TOTAL_CAPPED, page.totalCapped());
+    }
+
+    private static void writeError(ApiErrorResponse error, CodedOutputStream out) throws IOException {
+        if (error.status() != 0) out.writeInt32(ERROR_STATUS, error.status());
+        if (error.error() != null) out.writeString(ERROR_ERROR, error.error());
+        if (error.message() != null) out.writeString(ERROR_MESSAGE, error.message());
+        if (error.timestamp() != null) writeDateTime(ERROR_TIMESTAMP, error.timestamp(), out);
+        if (error.details() != null) {
+            for (String detail : error.details()) {
+                out.writeString(ERROR_DETAILS, detail);
+            }
+        }
+    }
+
+    private static void writeContent(List<ConsentResponseDTO> content, int fields, CodedOutputStream out)
+            throws IOException {
+        if (content == null) return;
+        for (ConsentResponseDTO consent : content) {
+            out.writeTag(CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(consentSize(consent, fields));
+            writeConsentFields(consent, fields, out);
+        }
+    }
+
+    private static void writeConsentFields(ConsentResponseDTO consent, int fields, CodedOutputStream out)
+            throws IOException {
+        if (includes(fields, CONSENT_ID) && consent.id() != null) {
+            out.writeTag(CONSENT_ID, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(UUID_BYTES);
+            writeBigEndian(consent.id().getMostSignificantBits(), out);
+            writeBigEndian(consent.id().getLeastSignificantBits(), out);
+        }
+        if (includes(fields, CONSENT_CPF) && consent.cpf() != null) {
+            out.writeString(CONSENT_CPF, consent.cpf());
+        }
+        if (includes(fields, CONSENT_STATUS) && consent.status() != null) {
+            out.writeEnum(CONSENT_STATUS, consent.status().ordinal() + 1);
+        }
+        if (includes(fields, CONSENT_CREATION_DATE_TIME) && consent.creationDateTime() != null) {
+            writeDateTime(CONSENT_CREATION_DATE_TIME, consent.creationDateTime(), out);
+        }
+        if (includes(fields, CONSENT_EXPIRATION_DATE_TIME) && consent.expirationDateTime() != null) {
+            writeDateTime(CONSENT_EXPIRATION_DATE_TIME, consent.expirationDateTime(), out);
+        }
+        if (includes(fields, CONSENT_ADDITIONAL_INFO) && consent.additionalInfo() != null) {
+            out.writeString(CONSENT_ADDITIONAL_INFO, consent.additionalInfo());
+        }
+    }
+
+    private static int consentSize(ConsentResponseDTO consent, int fields) {
+        int size = 0;
+        if (includes(fields, CONSENT_ID) && consent.id() != null) {
+            size += CodedOutputStream.computeTagSize(CONSENT_ID) + 1 + UUID_BYTES;
+        }
+        if (includes(fields, CONSENT_CPF) && consent.cpf() != null) {
+            size += CodedOutputStream.computeStringSize(CONSENT_CPF, consent.cpf());
+        }
+        if (includes(fields, CONSENT_STATUS) && consent.status() != null) {
+            size += CodedOutputStream.computeEnumSize(CONSENT_STATUS, consent.status().ordinal() + 1);
+        }
+        if (includes(fields, CONSENT_CREATION_DATE_TIME) && consent.creationDateTime() != null) {
+            size += dateTimeFieldSize(CONSENT_CREATION_DATE_TIME, consent.creationDateTime());
+        }
+        if (includes(fields, CONSENT_EXPIRATION_DATE_TIME) && consent.expirationDateTime() != null) {
+            size += dateTimeFieldSize(CONSENT_EXPIRATION_DATE_TIME, consent.expirationDateTime());
+        }
+        if (includes(fields, CONSENT_ADDITIONAL_INFO) && consent.additionalInfo() != null) {
+            size += CodedOutputStream.computeStringSize(CONSENT_ADDITIONAL_INFO, consent.additionalInfo());
+        }
+        return size;
+    }
+
+    private static void writeDateTime(int field, LocalDateTime value, CodedOutputStream out) throws IOException {
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        int nanos = value.getNano();
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(dateTimeSize(seconds, nanos));
+        if (seconds != 0) out.writeInt64(DATE_TIME_SECONDS, seconds);
+        if (nanos != 0) out.writeInt32(DATE_TIME_NANOS, nanos);
+    }
+
+    private static int dateTimeFieldSize(int field, LocalDateTime value) {
+        int size = dateTimeSize(value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static int dateTimeSize(long seconds, int nanos) {
+        return (seconds != 0 ? CodedOutputStream.computeInt64Size(DATE_TIME_SECONDS, seconds) : 0)
+                + (nanos != 0 ? CodedOutputStream.computeInt32Size(DATE_TIME_NANOS, nanos) : 0);
+    }
+
+    private static LocalDateTime readDateTime(CodedInputStream in) throws IOException {
+        long seconds = 0;
+        int nanos = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case DATE_TIME_SECONDS -> seconds = in.readInt64();
+                case DATE_TIME_NANOS -> nanos = in.readInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void writeBigEndian(long bits, CodedOutputStream out) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((byte) (bits >>> shift));
+        }
+    }
+
+    private static UUID readUuid(CodedInputStream in) throws IOException {
+        byte[] bytes = in.readByteArray();
+        if (bytes.length != UUID_BYTES) {
+            throw new IOException("UUID com " + bytes.length + " bytes");
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xFF);
+            lsb = (lsb << 8) | (bytes[8 + i] & 0xFF);
+        }
+        return new UUID(msb, lsb);
+    }
+
+    private static ConsentStatus readStatus(CodedInputStream in) throws IOException {
+        int value = in.readEnum();
+        return value > 0 && value <= STATUSES.length ? STATUSES[value - 1] : null;
+    }
+
+    private static <T> T readMessage(CodedInputStream in, MessageReader<T> reader) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        T value = reader.read(in);
+        in.popLimit(limit);
+        return value;
+    }
+
+    private static int fields(ConsentFields.Selection selection) {
+        if (selection == null) return ALL_FIELDS;
+        int fields = 0;
+        for (int field = CONSENT_ID; field < FIELD_NAMES.length; field++) {
+            if (selection.includes(FIELD_NAMES[field])) fields |= 1 << field;
+        }
+        return fields;
+    }
+
+    private static boolean includes(int fields, int field) {
+        return (fields & (1 << field)) != 0;
+    }
+
+    @FunctionalInterface
+    private interface MessageReader<T> {
+        T read(CodedInputStream in) throws IOException;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.google.protobuf.CodedOutputStream;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.exception.handler.ApiErrorResponse;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class ConsentProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final String MESSAGE_HEADER = "X-Protobuf-Message";
+    public static final String SCHEMA_HEADER = "X-Protobuf-Schema";
+
+    private static final String SCHEMA = "consents.proto";
+
+    public ConsentProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ConsentResponseDTO.class == clazz || ApiErrorResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && isSupported(type != null ? ResolvableType.forType(type)
+                : ResolvableType.forClass(clazz));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || clazz == PageResponseDTO.class
+                || clazz == CursorPageResponseDTO.class || List.class.isAssignableFrom(clazz)
+                ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, Object body, @Nullable MediaType contentType)
+            throws IOException {
+        super.addDefaultHeaders(headers, body, contentType);
+        Object value = body instanceof MappingJacksonValue container ? container.getValue() : body;
+        headers.set(MESSAGE_HEADER, ConsentProtobuf.messageName(value));
+        headers.set(SCHEMA_HEADER, SCHEMA);
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        ConsentFields.Selection selection = null;
+        if (body instanceof MappingJacksonValue container) {
+            selection = selection(container.getFilters());
+            body = container.getValue();
+        }
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        ConsentProtobuf.write(body, selection, out);
+        out.flush();
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Leitura em Protobuf não suportada", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Leitura em Protobuf não suportada", inputMessage);
+    }
+
+    private static boolean isSupported(ResolvableType type) {
+        Class<?> raw = type.toClass();
+        if (raw == ConsentResponseDTO.class || raw == ApiErrorResponse.class) return true;
+        if (raw == PageResponseDTO.class || raw == CursorPageResponseDTO.class) {
+            return type.getGeneric(0).toClass() == ConsentResponseDTO.class;
+        }
+        return List.class.isAssignableFrom(raw)
+                && type.as(List.class).getGeneric(0).toClass() == ConsentResponseDTO.class;
+    }
+
+    private static ConsentFields.Selection selection(@Nullable FilterProvider filters) {
+        if (filters == null) return null;
+        return filters.findPropertyFilter(ConsentFields.FILTER_ID, null) instanceof ConsentFields.Selection selection
+                ? selection : null;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.UUID;
+
+public class ConsentResponseSerializer extends StdSerializer<ConsentResponseDTO>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CPF = new SerializedString("cpf");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATION_DATE_TIME = new SerializedString("creationDateTime");
+    private static final SerializedString EXPIRATION_DATE_TIME = new SerializedString("expirationDateTime");
+    private static final SerializedString ADDITIONAL_INFO = new SerializedString("additionalInfo");
+
+    private static final SerializableString[] STATUS_NAMES = Arrays.stream(ConsentStatus.values())
+            .map(status -> new SerializedString(status.name()))
+            .toArray(SerializableString[]::new);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int UUID_LENGTH = 36;
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int DATE_TIME_NANOS_LENGTH = 29;
+
+    private final JsonSerializer<Object> fallback;
+
+    public ConsentResponseSerializer(JsonSerializer<Object> fallback) {
+        super(ConsentResponseDTO.class);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void serialize(ConsentResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        PropertyFilter filter = filterFor(value, provider);
+        if (!(filter instanceof ConsentFields.Selection || filter == SimpleBeanPropertyFilter.serializeAll())
+                || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                || provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+        ConsentFields.Selection selection = filter instanceof ConsentFields.Selection s ? s : null;
+        char[] buffer = new char[UUID_LENGTH];
+
+        gen.writeStartObject(value);
+        if (includes(selection, ID)) {
+            gen.writeFieldName(ID);
+            writeUuid(value.id(), gen, buffer);
+        }
+        if (includes(selection, CPF)) {
+            gen.writeFieldName(CPF);
+            gen.writeString(value.cpf());
+        }
+        if (includes(selection, STATUS)) {
+            gen.writeFieldName(STATUS);
+            if (value.status() == null) gen.writeNull();
+            else gen.writeString(STATUS_NAMES[value.status().ordinal()]);
+        }
+        if (includes(selection, CREATION_DATE_TIME)) {
+            gen.writeFieldName(CREATION_DATE_TIME);
+            writeDateTime(value.creationDateTime(), gen, buffer);
+        }
+        if (includes(selection, EXPIRATION_DATE_TIME)) {
+            gen.writeFieldName(EXPIRATION_DATE_TIME);
+            writeDateTime(value.expirationDateTime(), gen, buffer);
+        }
+        if (includes(selection, ADDITIONAL_INFO)) {
+            gen.writeFieldName(ADDITIONAL_INFO);
+            gen.writeString(value.additionalInfo());
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(ConsentResponseDTO value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        fallback.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = provider.handleSecondaryContextualization(fallback, property);
+        return contextual == fallback ? this : new ConsentResponseSerializer((JsonSerializer<Object>) contextual);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (fallback instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    private static PropertyFilter filterFor(ConsentResponseDTO value, SerializerProvider provider) {
+        FilterProvider filters = provider.getFilterProvider();
+        return filters == null ? null : filters.findPropertyFilter(ConsentFields.FILTER_ID, value);
+    }
+
+    private static boolean includes(ConsentFields.Selection selection, SerializedString field) {
+        return selection == null || selection.includes(field.getValue());
+    }
+
+    private static void writeUuid(UUID id, JsonGenerator gen, char[] buffer) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+            return;
+        }
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (gen.canWriteBinaryNatively() && !(gen instanceof TokenBuffer)) {
+            byte[] bytes = new byte[16];
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (msb >>> (56 - 8 * i));
+                bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+            }
+            gen.writeBinary(bytes);
+            return;
+        }
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        gen.writeString(buffer, 0, UUID_LENGTH);
+    }
+
+    private static void writeDateTime(LocalDateTime value, JsonGenerator gen, char[] buffer) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        digits(year, buffer, 0, 4);
+        buffer[4] = '-';
+        digits(value.getMonthValue(), buffer, 5, 2);
+        buffer[7] = '-';
+        digits(value.getDayOfMonth(), buffer, 8, 2);
+        buffer[10] = 'T';
+        digits(value.getHour(), buffer, 11, 2);
+        buffer[13] = ':';
+        digits(value.getMinute(), buffer, 14, 2);
+        buffer[16] = ':';
+        digits(value.getSecond(), buffer, 17, 2);
+
+        int length = DATE_TIME_LENGTH;
+        if (value.getNano() > 0) {
+            buffer[DATE_TIME_LENGTH] = '.';
+            digits(value.getNano(), buffer, DATE_TIME_LENGTH + 1, 9);
+            length = DATE_TIME_NANOS_LENGTH;
+            while (buffer[length - 1] == '0') length--;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void hex(long bits, char[] buffer, int offset, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) bits & 0xF];
+            bits >>>= 4;
+        }
+    }
+
+    private static void digits(int value, char[] buffer, int offset, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+}
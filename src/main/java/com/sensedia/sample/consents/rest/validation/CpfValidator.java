@@ -0,0 +1,15 @@
+package com.sensedia.sample.consents.rest.validation;
+
+import com.sensedia.sample.consents.domain.model.Cpf;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidator implements ConstraintValidator<ValidCpf, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty()) return true;
+        return value.length() == Cpf.FORMATTED_LENGTH && Cpf.isValid(value);
+    }
+
+}
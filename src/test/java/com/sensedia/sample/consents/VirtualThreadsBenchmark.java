@@ -0,0 +1,129 @@
+package com.sensedia.sample.consents;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VirtualThreadsBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 1000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("bench.warmup", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("bench.duration", 30));
+    private static final int SEED_SIZE = Integer.getInteger("bench.seed", 10_000);
+
+    public static void main(String[] args) throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %12s %10s %10s %10s %8s", "threads", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors"));
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            ConfigurableApplicationContext context = SpringApplication.from(ConsentsApplication::main)
+                    .with(TestcontainersConfiguration.class)
+                    .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtual)
+                    .getApplicationContext();
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                List<UUID> ids = seed(context.getBean(ConsentRepository.class));
+
+                run(port, ids, WARMUP);
+                Result result = run(port, ids, DURATION);
+
+                report.add(String.format("%-10s %12.0f %10.2f %10.2f %10.2f %8d",
+                        virtual ? "virtual" : "platform",
+                        result.throughput(), result.percentile(50), result.percentile(99), result.percentile(100),
+                        result.errors()));
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.println();
+        System.out.printf("GET /consents/{id} - concorrência %d, duração %ds%n", CONCURRENCY, DURATION.toSeconds());
+        report.forEach(System.out::println);
+    }
+
+    private static List<UUID> seed(ConsentRepository repository) {
+        repository.deleteAll();
+        List<Consent> consents = new ArrayList<>(SEED_SIZE);
+        for (int i = 0; i < SEED_SIZE; i++) {
+            consents.add(Consent.builder()
+                    .cpf(Cpf.fromBase(i))
+                    .status(ConsentStatus.ACTIVE)
+                    .creationDateTime(LocalDateTime.now())
+                    .expirationDateTime(LocalDateTime.now().plusYears(1))
+                    .additionalInfo("Benchmark")
+                    .build());
+        }
+        return repository.saveAll(consents).stream().map(Consent::getId).toList();
+    }
+
+    private static Result run(int port, List<UUID> ids, Duration duration) throws Exception {
+        String baseUrl = "http://localhost:" + port + "/consents/";
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(workers).build()) {
+            List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id)).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) errors.incrementAndGet();
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> perWorker = new ArrayList<>(CONCURRENCY);
+            for (Future<long[]> future : futures) perWorker.add(future.get());
+            long[] all = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(all, duration, errors.get());
+        }
+    }
+
+    private record Result(long[] sortedLatencies, Duration duration, long errors) {
+
+        double throughput() {
+            return sortedLatencies.length / (double) duration.toSeconds();
+        }
+
+        double percentile(double percentile) {
+            if (sortedLatencies.length == 0) return 0;
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.sensedia.sample.consents.application.cache;
+
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ConsentCacheTest {
+
+    private final ConsentRepository repository = mock(ConsentRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConsentCache cache(boolean enabled) {
+        return new ConsentCache(repository,
+                new ConsentCacheProperties(enabled, 100, Duration.ofMinutes(5), false), meterRegistry);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        var consentCache = cache(true);
+        var consent = Consent.builder().build();
+        when(repository.findById(consent.getId())).thenReturn(Optional.of(consent));
+
+        assertThat(consentCache.findById(consent.getId())).contains(consent);
+        assertThat(consentCache.findById(consent.getId())).contains(consent);
+
+        verify(repository, times(1)).findById(consent.getId());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "consents.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        var consentCache = cache(true);
+        var consent = Consent.builder().build();
+        when(repository.findById(consent.getId())).thenReturn(Optional.of(consent));
+
+        consentCache.findById(consent.getId());
+        consentCache.invalidate(consent.getId());
+        consentCache.findById(consent.getId());
+
+        verify(repository, times(2)).findById(consent.getId());
+    }
+
+    @Test
+    void shouldNotCacheMissingConsents() {
+        var consentCache = cache(true);
+        var id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        assertThat(consentCache.findById(id)).isEmpty();
+        assertThat(consentCache.findById(id)).isEmpty();
+
+        verify(repository, times(2)).findById(id);
+    }
+
+    @Test
+    void shouldDelegateToRepositoryWhenDisabled() {
+        var consentCache = cache(false);
+        var consent = Consent.builder().build();
+        when(repository.findById(consent.getId())).thenReturn(Optional.of(consent));
+
+        consentCache.findById(consent.getId());
+        consentCache.findById(consent.getId());
+
+        verify(repository, times(2)).findById(consent.getId());
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+}
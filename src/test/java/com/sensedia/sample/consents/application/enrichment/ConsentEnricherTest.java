@@ -0,0 +1,77 @@
+package com.sensedia.sample.consents.application.enrichment;
+
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentEnrichmentProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ConsentEnricherTest {
+
+    private final ConsentRepository repository = mock(ConsentRepository.class);
+    private final GitHubClient gitHubClient = mock(GitHubClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConsentEnricher enricher = new ConsentEnricher(repository, gitHubClient, mock(ConsentCache.class),
+            new ConsentEnrichmentProperties(true, 1, 1, 1), meterRegistry, new MockEnvironment());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        enricher.shutdown();
+    }
+
+    @Test
+    void shouldEnrichWholeBatchWithSingleLookupAndUpdate() {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(gitHubClient.getUserBioOrDefault("user")).thenReturn("bio");
+        when(repository.setAdditionalInfoIfMissing(ids, "bio")).thenReturn(1L);
+
+        enricher.enrichLater(ids, "user");
+
+        verify(repository, timeout(5000)).setAdditionalInfoIfMissing(ids, "bio");
+        verify(gitHubClient, times(1)).getUserBioOrDefault("user");
+    }
+
+    @Test
+    void shouldDeferRejectedTasksToBacklogInsteadOfRunningOnCaller() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var running = new CountDownLatch(1);
+        when(gitHubClient.getUserBioOrDefault("user")).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "bio";
+        });
+        var deferredId = UUID.randomUUID();
+
+        enricher.enrichLater(UUID.randomUUID(), "user");
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        enricher.enrichLater(UUID.randomUUID(), "user");
+        enricher.enrichLater(deferredId, "user");
+        enricher.enrichLater(UUID.randomUUID(), "user");
+
+        assertThat(outcome("deferred")).isEqualTo(1);
+        assertThat(outcome("shed")).isEqualTo(1);
+        verify(gitHubClient, times(1)).getUserBioOrDefault("user");
+
+        release.countDown();
+        verify(repository, timeout(5000).times(2)).setAdditionalInfoIfMissing(anyCollection(), eq("bio"));
+        enricher.retryBacklog();
+        verify(repository, timeout(5000)).setAdditionalInfoIfMissing(List.of(deferredId), "bio");
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("consents.enrichment.tasks").tag("outcome", outcome).counter().count();
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.sensedia.sample.consents.application.expiration;
+
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentExpirationProperties;
+import com.sensedia.sample.consents.infra.lease.LeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ConsentExpirationSweeperTest {
+
+    private final ConsentRepository repository = mock(ConsentRepository.class);
+    private final ConsentHistoryRepository historyRepository = mock(ConsentHistoryRepository.class);
+    private final ConsentCache consentCache = mock(ConsentCache.class);
+    private final LeaseManager leaseManager = mock(LeaseManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConsentExpirationSweeper sweeper = new ConsentExpirationSweeper(repository, historyRepository,
+            consentCache, leaseManager, new ConsentExpirationProperties(true, Duration.ofMinutes(1), 2, 10,
+            Duration.ofMinutes(2)), meterRegistry);
+
+    @Test
+    void shouldSkipSweepWhenLeaseIsHeldElsewhere() {
+        when(leaseManager.tryAcquire(anyString(), anyString(), any())).thenReturn(false);
+
+        sweeper.sweep();
+
+        verifyNoInteractions(repository, historyRepository);
+        verify(leaseManager, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExpireInBatchesWriteHistoryAndReleaseLease() {
+        var first = consent();
+        var second = consent();
+        var third = consent();
+        when(leaseManager.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        when(repository.findExpiredActive(any(), anyInt()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        when(repository.markExpired(any(), any()))
+                .thenReturn(Set.of(first.getId(), second.getId()))
+                .thenReturn(Set.of(third.getId()));
+
+        sweeper.sweep();
+
+        ArgumentCaptor<List<ConsentHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository, times(2)).insertAllIgnoringDuplicates(captor.capture());
+        assertThat(captor.getAllValues()).flatExtracting(histories -> histories)
+                .allSatisfy(history -> {
+                    assertThat(history.getStatus()).isEqualTo(ConsentStatus.EXPIRED);
+                    assertThat(history.getOperation()).isEqualTo("EXPIRED");
+                })
+                .extracting(ConsentHistory::getConsentId)
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        verify(repository, times(2)).findExpiredActive(any(), eq(2));
+        verify(repository, never()).findExpiredActive(anyCollection(), any());
+        verify(historyRepository, never()).deleteAllById(any());
+        verify(consentCache).invalidate(third.getId());
+        verify(leaseManager).release(eq(ConsentExpirationSweeper.LEASE_NAME), anyString());
+        assertThat(meterRegistry.get("consents.expiration.expired").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDropStaleHistoryAndRetryConsentsChangedDuringSweep() {
+        var expired = consent();
+        var changed = consent();
+        var reread = Consent.builder()
+                .id(changed.getId())
+                .cpf(changed.getCpf())
+                .status(ConsentStatus.ACTIVE)
+                .expirationDateTime(changed.getExpirationDateTime())
+                .additionalInfo("Alterado por PUT")
+                .version(1L)
+                .build();
+        when(leaseManager.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        when(repository.findExpiredActive(any(), anyInt()))
+                .thenReturn(List.of(expired, changed))
+                .thenReturn(List.of());
+        when(repository.markExpired(eq(List.of(expired, changed)), any())).thenReturn(Set.of(expired.getId()));
+        when(repository.findExpiredActive(eq(List.of(changed.getId())), any())).thenReturn(List.of(reread));
+        when(repository.markExpired(eq(List.of(reread)), any())).thenReturn(Set.of(changed.getId()));
+
+        sweeper.sweep();
+
+        ArgumentCaptor<List<ConsentHistory>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository, times(2)).insertAllIgnoringDuplicates(inserted.capture());
+        ArgumentCaptor<Iterable<UUID>> deleted = ArgumentCaptor.forClass(Iterable.class);
+        verify(historyRepository).deleteAllById(deleted.capture());
+        var staleHistoryId = inserted.getAllValues().get(0).stream()
+                .filter(history -> history.getConsentId().equals(changed.getId()))
+                .findFirst().orElseThrow().getId();
+        assertThat(deleted.getValue()).containsExactly(staleHistoryId);
+        assertThat(inserted.getAllValues().get(1)).singleElement()
+                .satisfies(history -> {
+                    assertThat(history.getId()).isNotEqualTo(staleHistoryId);
+                    assertThat(history.getAdditionalInfo()).isEqualTo("Alterado por PUT");
+                });
+        assertThat(meterRegistry.get("consents.expiration.expired").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecordEachExpirationOfAReactivatedConsent() {
+        var consent = consent();
+        consent.setVersion(3L);
+        var reactivated = Consent.builder()
+                .id(consent.getId())
+                .cpf(consent.getCpf())
+                .status(ConsentStatus.ACTIVE)
+                .expirationDateTime(consent.getExpirationDateTime())
+                .version(5L)
+                .build();
+        when(leaseManager.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        when(repository.findExpiredActive(any(), anyInt()))
+                .thenReturn(List.of(consent)).thenReturn(List.of(reactivated));
+        when(repository.markExpired(any(), any())).thenReturn(Set.of(consent.getId()));
+
+        sweeper.sweep();
+        sweeper.sweep();
+
+        ArgumentCaptor<List<ConsentHistory>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository, times(2)).insertAllIgnoringDuplicates(inserted.capture());
+        assertThat(inserted.getAllValues().get(0).get(0).getId())
+                .isNotEqualTo(inserted.getAllValues().get(1).get(0).getId());
+    }
+
+    private static Consent consent() {
+        return Consent.builder()
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.ACTIVE)
+                .expirationDateTime(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+
+}
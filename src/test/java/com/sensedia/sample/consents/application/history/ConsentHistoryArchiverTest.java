@@ -0,0 +1,117 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryBucketRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.archive.HistoryBucketCodec;
+import com.sensedia.sample.consents.infra.config.properties.ConsentArchiveProperties;
+import com.sensedia.sample.consents.infra.lease.LeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class ConsentHistoryArchiverTest {
+
+    private final ConsentHistoryRepository historyRepository = mock(ConsentHistoryRepository.class);
+    private final ConsentHistoryBucketRepository bucketRepository = mock(ConsentHistoryBucketRepository.class);
+    private final LeaseManager leaseManager = mock(LeaseManager.class);
+    private final ConsentHistoryArchiver archiver = new ConsentHistoryArchiver(historyRepository, bucketRepository,
+            leaseManager, new ConsentArchiveProperties(true, Duration.ofDays(90), Duration.ofHours(1), 2,
+            100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+
+    @Test
+    void shouldArchiveWholeMonthsOlderThanConfiguredAge() {
+        assertThat(archiver.cutoff(LocalDateTime.of(2025, 6, 15, 10, 30)))
+                .isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldGroupByConsentAndMonthCapBucketSizeAndDeleteHotRecords() {
+        var consentA = UUID.randomUUID();
+        var consentB = UUID.randomUUID();
+        var january = List.of(history(consentA, 1, 5), history(consentA, 1, 6), history(consentA, 1, 7));
+        var february = history(consentA, 2, 1);
+        var other = history(consentB, 1, 9);
+        var cutoff = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(historyRepository.streamOlderThan(cutoff)).thenReturn(Stream.concat(january.stream(),
+                Stream.of(february, other)));
+        when(leaseManager.tryAcquire(eq(ConsentHistoryArchiver.LEASE_NAME), anyString(), any())).thenReturn(true);
+
+        assertThat(archiver.archiveOlderThan(cutoff)).isEqualTo(5);
+
+        var buckets = ArgumentCaptor.forClass(ConsentHistoryBucket.class);
+        verify(bucketRepository, times(4)).save(buckets.capture());
+        assertThat(buckets.getAllValues()).extracting(ConsentHistoryBucket::getMonth, ConsentHistoryBucket::getCount)
+                .containsExactly(tuple("2024-01", 2), tuple("2024-01", 1), tuple("2024-02", 1), tuple("2024-01", 1));
+        var first = buckets.getAllValues().get(0);
+        assertThat(first.getId()).isEqualTo(consentA + ":2024-01:" + january.get(0).getId());
+        assertThat(first.getFrom()).isEqualTo(january.get(0).getTimestamp());
+        assertThat(first.getTo()).isEqualTo(january.get(1).getTimestamp());
+        assertThat(HistoryBucketCodec.decode(first)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(january.subList(0, 2));
+
+        ArgumentCaptor<Iterable<UUID>> deleted = ArgumentCaptor.forClass(Iterable.class);
+        verify(historyRepository, times(4)).deleteAllById(deleted.capture());
+        assertThat(deleted.getAllValues()).flatExtracting(ids -> List.copyOf((List<UUID>) ids)).hasSize(5);
+    }
+
+    @Test
+    void shouldStopArchivingWhenLeaseIsLost() {
+        var cutoff = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(historyRepository.streamOlderThan(cutoff)).thenReturn(Stream.of(history(UUID.randomUUID(), 1, 5),
+                history(UUID.randomUUID(), 1, 6), history(UUID.randomUUID(), 1, 7)));
+        when(leaseManager.tryAcquire(eq(ConsentHistoryArchiver.LEASE_NAME), anyString(), any())).thenReturn(false);
+
+        assertThat(archiver.archiveOlderThan(cutoff)).isEqualTo(1);
+
+        verify(bucketRepository, times(1)).save(any());
+        verify(historyRepository, times(1)).deleteAllById(any());
+    }
+
+    @Test
+    void shouldStopInsideOversizedBucketWhenRunLimitIsReached() {
+        var limited = new ConsentHistoryArchiver(historyRepository, bucketRepository, leaseManager,
+                new ConsentArchiveProperties(true, Duration.ofDays(90), Duration.ofHours(1), 1000, 3,
+                        Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        var consentId = UUID.randomUUID();
+        var cutoff = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(historyRepository.streamOlderThan(cutoff)).thenReturn(Stream.of(history(consentId, 1, 1),
+                history(consentId, 1, 2), history(consentId, 1, 3), history(consentId, 1, 4),
+                history(consentId, 1, 5)));
+        when(leaseManager.tryAcquire(eq(ConsentHistoryArchiver.LEASE_NAME), anyString(), any())).thenReturn(true);
+
+        assertThat(limited.archiveOlderThan(cutoff)).isEqualTo(3);
+
+        var bucket = ArgumentCaptor.forClass(ConsentHistoryBucket.class);
+        verify(bucketRepository).save(bucket.capture());
+        assertThat(bucket.getValue().getCount()).isEqualTo(3);
+        assertThat(bucket.getValue().getTo()).isEqualTo(LocalDateTime.of(2024, 1, 3, 12, 0));
+    }
+
+    private static ConsentHistory history(UUID consentId, int month, int day) {
+        return ConsentHistory.builder()
+                .consentId(consentId)
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.ACTIVE)
+                .expirationDateTime(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .additionalInfo("info")
+                .operation("UPDATED")
+                .timestamp(LocalDateTime.of(2024, month, day, 12, 0))
+                .build();
+    }
+
+}
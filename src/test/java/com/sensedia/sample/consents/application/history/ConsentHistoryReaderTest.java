@@ -0,0 +1,111 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.ConsentHistoryBucket;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryBucketRepository;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryFilter;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.archive.HistoryBucketCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ConsentHistoryReaderTest {
+
+    private static final Cpf CPF = Cpf.parse("123.456.789-09");
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final ConsentHistoryRepository historyRepository = mock(ConsentHistoryRepository.class);
+    private final ConsentHistoryBucketRepository bucketRepository = mock(ConsentHistoryBucketRepository.class);
+    private final ConsentHistoryReader reader = new ConsentHistoryReader(historyRepository, bucketRepository);
+
+    @Test
+    void shouldMergeOverlappingBucketsAndHotRecordsInChronologicalOrder() {
+        var consentA = UUID.randomUUID();
+        var consentB = UUID.randomUUID();
+        var a1 = history(consentA, 1);
+        var a2 = history(consentA, 4);
+        var b1 = history(consentB, 2);
+        var b2 = history(consentB, 3);
+        var hot = history(consentA, 40);
+        var filter = ConsentHistoryFilter.byCpf(CPF, null, null);
+        when(historyRepository.stream(filter)).thenReturn(Stream.of(hot));
+        when(bucketRepository.streamOverlapping(filter, null)).thenReturn(Stream.of(bucket(a1, a2), bucket(b1, b2)));
+
+        try (var histories = reader.stream(filter)) {
+            assertThat(histories.map(ConsentHistory::getId))
+                    .containsExactly(a1.getId(), b1.getId(), b2.getId(), a2.getId(), hot.getId());
+        }
+    }
+
+    @Test
+    void shouldSkipRecordsPresentInBothTiers() {
+        var consentId = UUID.randomUUID();
+        var archived = history(consentId, 1);
+        var pendingDelete = history(consentId, 2);
+        var hot = history(consentId, 3);
+        var filter = ConsentHistoryFilter.byConsentId(consentId, null, null);
+        when(historyRepository.findPageAfter(filter, null, null, 10)).thenReturn(List.of(pendingDelete, hot));
+        when(bucketRepository.streamOverlapping(filter, null)).thenReturn(Stream.of(bucket(archived, pendingDelete)));
+
+        var page = reader.findPageAfter(filter, null, null, 10);
+
+        assertThat(page).extracting(ConsentHistory::getId)
+                .containsExactly(archived.getId(), pendingDelete.getId(), hot.getId());
+    }
+
+    @Test
+    void shouldApplyRangeAndKeysetToArchivedRecords() {
+        var consentId = UUID.randomUUID();
+        var beforeRange = history(consentId, 1);
+        var alreadySeen = history(consentId, 2);
+        var next = history(consentId, 3);
+        var afterRange = history(consentId, 5);
+        var filter = ConsentHistoryFilter.byConsentId(consentId, hours(1), hours(5));
+        when(historyRepository.findPageAfter(any(), any(), any(), anyInt())).thenReturn(List.of());
+        when(bucketRepository.streamOverlapping(filter, hours(2)))
+                .thenReturn(Stream.of(bucket(beforeRange, alreadySeen, next, afterRange)));
+
+        var page = reader.findPageAfter(filter, alreadySeen.getTimestamp(), alreadySeen.getId(), 10);
+
+        assertThat(page).extracting(ConsentHistory::getId).containsExactly(next.getId());
+    }
+
+    private static LocalDateTime hours(int hours) {
+        return BASE.plusHours(hours);
+    }
+
+    private static ConsentHistory history(UUID consentId, int hours) {
+        return ConsentHistory.builder()
+                .consentId(consentId)
+                .cpf(CPF)
+                .status(ConsentStatus.ACTIVE)
+                .operation("UPDATED")
+                .timestamp(hours(hours))
+                .build();
+    }
+
+    private static ConsentHistoryBucket bucket(ConsentHistory... histories) {
+        var records = List.of(histories);
+        return ConsentHistoryBucket.builder()
+                .id(UUID.randomUUID().toString())
+                .consentId(records.get(0).getConsentId())
+                .cpf(CPF)
+                .from(records.get(0).getTimestamp())
+                .to(records.get(records.size() - 1).getTimestamp())
+                .count(records.size())
+                .payload(HistoryBucketCodec.encode(records))
+                .build();
+    }
+
+}
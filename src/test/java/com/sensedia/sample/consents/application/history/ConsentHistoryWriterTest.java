@@ -0,0 +1,153 @@
+package com.sensedia.sample.consents.application.history;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.infra.config.properties.ConsentHistoryProperties;
+import com.sensedia.sample.consents.infra.journal.ConsentHistoryJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ConsentHistoryWriterTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final ConsentHistoryRepository repository = mock(ConsentHistoryRepository.class);
+    private ConsentHistoryWriter writer;
+
+    private ConsentHistoryWriter startWriter(boolean writeBehind) throws Exception {
+        var properties = new ConsentHistoryProperties(writeBehind, 100, 10, Duration.ofMillis(50), journalDir,
+                1024 * 1024, false);
+        writer = new ConsentHistoryWriter(repository, properties, new SimpleMeterRegistry());
+        writer.start();
+        return writer;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFlushRecordsInBatchesAndClearJournal() throws Exception {
+        startWriter(true);
+
+        var histories = List.of(history(), history(), history());
+        histories.forEach(writer::write);
+
+        ArgumentCaptor<List<ConsentHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, timeout(2_000).atLeastOnce()).insertAllIgnoringDuplicates(captor.capture());
+        writer.shutdown();
+        writer = null;
+
+        List<UUID> written = new ArrayList<>();
+        captor.getAllValues().forEach(batch -> batch.forEach(history -> written.add(history.getId())));
+        assertThat(written).containsExactlyElementsOf(histories.stream().map(ConsentHistory::getId).toList());
+        verify(repository, never()).save(any());
+        try (var files = Files.list(journalDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayJournalLeftByPreviousRun() throws Exception {
+        var pending = List.of(history(), history());
+        try (var journal = new ConsentHistoryJournal(journalDir, 1024 * 1024, false)) {
+            for (ConsentHistory history : pending) {
+                journal.append(history);
+            }
+        }
+
+        startWriter(true);
+
+        ArgumentCaptor<List<ConsentHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, timeout(2_000)).insertAllIgnoringDuplicates(captor.capture());
+        var replayed = captor.getValue();
+        assertThat(replayed).extracting(ConsentHistory::getId)
+                .containsExactlyElementsOf(pending.stream().map(ConsentHistory::getId).toList());
+        assertThat(replayed.get(0).getCpf()).isEqualTo(pending.get(0).getCpf());
+        assertThat(replayed.get(0).getTimestamp()).isEqualTo(pending.get(0).getTimestamp());
+    }
+
+    @Test
+    void shouldRetryTransientErrorsAndDeadLetterTheOthers() throws Exception {
+        var retried = history();
+        var rejected = history();
+        when(repository.insertAllIgnoringDuplicates(argThat(batch -> batch != null && batch.contains(retried))))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"))
+                .thenReturn(1);
+        when(repository.insertAllIgnoringDuplicates(argThat(batch -> batch != null && batch.contains(rejected))))
+                .thenThrow(new DataIntegrityViolationException("documento inválido"));
+        startWriter(true);
+
+        writer.write(retried);
+        verify(repository, timeout(5_000).times(2)).insertAllIgnoringDuplicates(argThat(batch -> batch.contains(retried)));
+        writer.write(rejected);
+        verify(repository, timeout(2_000)).insertAllIgnoringDuplicates(argThat(batch -> batch.contains(rejected)));
+        writer.shutdown();
+        writer = null;
+
+        verify(repository, times(1)).insertAllIgnoringDuplicates(argThat(batch -> batch.contains(rejected)));
+        try (var files = Files.list(journalDir)) {
+            var remaining = files.toList();
+            assertThat(remaining).singleElement()
+                    .satisfies(file -> assertThat(file.getFileName().toString()).startsWith("dead-letter-"));
+            assertThat(Files.readString(remaining.get(0))).contains(rejected.getId().toString())
+                    .doesNotContain(retried.getId().toString());
+        }
+    }
+
+    @Test
+    void shouldRequireAbsoluteJournalDirWhenWriteBehindIsEnabled() {
+        var properties = new ConsentHistoryProperties(true, 100, 10, Duration.ofMillis(50), Path.of("data/journal"),
+                1024 * 1024, false);
+        var relative = new ConsentHistoryWriter(repository, properties, new SimpleMeterRegistry());
+
+        assertThatThrownBy(relative::start).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldSaveSynchronouslyWhenWriteBehindIsDisabled() throws Exception {
+        startWriter(false);
+        var history = history();
+
+        writer.write(history);
+
+        verify(repository).save(history);
+        verify(repository, never()).insertAllIgnoringDuplicates(any());
+    }
+
+    private static ConsentHistory history() {
+        return ConsentHistory.builder()
+                .consentId(UUID.randomUUID())
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.REVOKED)
+                .operation("DELETED")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.sensedia.sample.consents.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CpfTest {
+
+    @Test
+    void shouldParseFormattedAndDigitsOnlyToSameValue() {
+        var formatted = Cpf.parse("123.456.789-09");
+        var digits = Cpf.parse("12345678909");
+
+        assertThat(formatted).isEqualTo(digits);
+        assertThat(formatted.value()).isEqualTo(12_345_678_909L);
+        assertThat(formatted.toString()).isEqualTo("123.456.789-09");
+    }
+
+    @Test
+    void shouldKeepLeadingZerosWhenFormatting() {
+        var cpf = Cpf.fromBase(1_234L);
+
+        assertThat(cpf.toString()).startsWith("000.001.234-");
+        assertThat(Cpf.parse(cpf.toString())).isEqualTo(cpf);
+    }
+
+    @Test
+    void shouldRejectInvalidCheckDigitsAndRepeatedDigits() {
+        assertThat(Cpf.isValid("123.456.789-00")).isFalse();
+        assertThat(Cpf.isValid("111.111.111-11")).isFalse();
+        assertThat(Cpf.isValid("123.456.789.09")).isFalse();
+        assertThat(Cpf.isValid("123")).isFalse();
+
+        assertThatThrownBy(() -> Cpf.parse("529.982.247-26"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMaskFirstAndThirdGroups() {
+        assertThat(Cpf.parse("529.982.247-25").masked()).isEqualTo("***.982.***-25");
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.sensedia.sample.consents.infra.client;
+
+import com.sensedia.sample.consents.infra.config.properties.GitHubClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubClientTest {
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final GitHubClientProperties properties = new GitHubClientProperties(
+            "https://api.github.com/users", 5, Duration.ofSeconds(1), Duration.ofSeconds(1),
+            100, Duration.ofMinutes(30), Duration.ofMinutes(10));
+
+    private GitHubClient clientRespondingWith(HttpStatus status, String body, Duration delay) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(properties.baseUrl())
+                .exchangeFunction(request -> {
+                    remoteCalls.incrementAndGet();
+                    return Mono.delay(delay).thenReturn(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new GitHubClient(webClient, properties, meterRegistry);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        var client = clientRespondingWith(HttpStatus.OK, "{\"bio\":\"GitHub Bio\"}", Duration.ZERO);
+
+        assertThat(client.getUserBioOrDefault("fsousa1987")).isEqualTo("GitHub Bio");
+        assertThat(client.getUserBioOrDefault("fsousa1987")).isEqualTo("GitHub Bio");
+
+        assertThat(remoteCalls).hasValue(1);
+        assertThat(meterRegistry.get("consents.github.requests").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCollapseConcurrentMissesIntoSingleRequest() {
+        var client = clientRespondingWith(HttpStatus.OK, "{\"bio\":\"GitHub Bio\"}", Duration.ofMillis(200));
+
+        var first = CompletableFuture.supplyAsync(() -> client.getUserBioOrDefault("fsousa1987"));
+        var second = CompletableFuture.supplyAsync(() -> client.getUserBioOrDefault("fsousa1987"));
+
+        assertThat(first.join()).isEqualTo("GitHub Bio");
+        assertThat(second.join()).isEqualTo("GitHub Bio");
+        assertThat(remoteCalls).hasValue(1);
+    }
+
+    @Test
+    void shouldReturnDefaultBioAndNotCacheFailures() {
+        var client = clientRespondingWith(HttpStatus.INTERNAL_SERVER_ERROR, "{}", Duration.ZERO);
+
+        assertThat(client.getUserBioOrDefault("fsousa1987")).isEqualTo("Informação externa indisponível");
+        assertThat(client.getUserBioOrDefault("fsousa1987")).isEqualTo("Informação externa indisponível");
+
+        assertThat(remoteCalls).hasValue(2);
+        assertThat(meterRegistry.get("consents.github.requests").tag("outcome", "server_error").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("consents.github.errors").tag("reason", "server_error").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRegisterRequestTimersOncePerOutcome() {
+        var client = clientRespondingWith(HttpStatus.OK, "{\"bio\":\"GitHub Bio\"}", Duration.ZERO);
+        int registeredMeters = meterRegistry.getMeters().size();
+
+        assertThat(meterRegistry.get("consents.github.requests").timers()).hasSize(6);
+
+        client.getUserBioOrDefault("fsousa1987");
+        client.getUserBioOrDefault("outro");
+
+        assertThat(meterRegistry.getMeters()).hasSize(registeredMeters);
+        assertThat(meterRegistry.get("consents.github.requests").tag("outcome", "success").timer().count())
+                .isEqualTo(2);
+    }
+
+}
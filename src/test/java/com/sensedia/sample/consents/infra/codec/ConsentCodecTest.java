@@ -0,0 +1,169 @@
+package com.sensedia.sample.consents.infra.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.infra.config.MongoConfig;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsentCodecTest {
+
+    private static final LocalDateTime CREATION = LocalDateTime.of(2025, 4, 11, 12, 0, 0, 123_000_000);
+    private static final LocalDateTime EXPIRATION = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+
+    private final SimpleMongoClientDatabaseFactory factory =
+            new SimpleMongoClientDatabaseFactory("mongodb://localhost:27017/codec");
+    private final MappingMongoConverter converter = converter();
+    private final CodecRegistry registry = CodecRegistries.withUuidRepresentation(
+            MongoClientSettings.getDefaultCodecRegistry(), MongoConfig.UUID_REPRESENTATION);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        factory.destroy();
+    }
+
+    @Test
+    void shouldWriteSameDocumentAsMappingConverter() {
+        var consent = consent();
+        var history = history();
+
+        assertThat(encode(new ConsentCodec(), consent)).isEqualTo(convert(consent));
+        assertThat(encode(new ConsentHistoryCodec(), history)).isEqualTo(convert(history));
+    }
+
+    @Test
+    void shouldReadDocumentsWrittenByMappingConverter() {
+        var consent = consent();
+
+        var decoded = decode(new ConsentCodec(), convert(consent));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(consent);
+        assertThat(decode(new ConsentHistoryCodec(), convert(history())))
+                .usingRecursiveComparison().isEqualTo(history());
+    }
+
+    @Test
+    void shouldLeaveProjectedOutAndNullFieldsEmpty() {
+        var id = UUID.randomUUID();
+        var document = BsonDocument.parse("{additionalInfo: null, status: 'REVOKED', unknown: {nested: 1}}");
+        document.put("_id", new BsonBinary(id, MongoConfig.UUID_REPRESENTATION));
+
+        var decoded = decode(new ConsentCodec(), document);
+
+        assertThat(decoded.getId()).isEqualTo(id);
+        assertThat(decoded.getStatus()).isEqualTo(ConsentStatus.REVOKED);
+        assertThat(decoded.getCpf()).isNull();
+        assertThat(decoded.getAdditionalInfo()).isNull();
+        assertThat(decoded.getVersion()).isNull();
+    }
+
+    @Test
+    void shouldReadLegacyJavaUuidsDuringMigration() {
+        var history = history();
+        var document = convert(history);
+        document.put("_id", new BsonBinary(history.getId(), UuidRepresentation.JAVA_LEGACY));
+        document.put("consentId", new BsonBinary(history.getConsentId(), UuidRepresentation.JAVA_LEGACY));
+
+        assertThat(decode(new ConsentHistoryCodec(), document)).usingRecursiveComparison().isEqualTo(history);
+
+        var legacy = new BsonBinary(history.getConsentId(), UuidRepresentation.JAVA_LEGACY);
+        var mapped = new Document("_id", new Binary(BsonBinarySubType.UUID_LEGACY, legacy.getData()))
+                .append("status", "ACTIVE");
+        assertThat(converter.read(Consent.class, mapped).getId()).isEqualTo(history.getConsentId());
+    }
+
+    @Test
+    void shouldRoundTripThroughBinaryBson() {
+        var consent = consent();
+        var codec = new ConsentCodec();
+        var buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), consent, EncoderContext.builder().build());
+
+        var decoded = codec.decode(new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())),
+                DecoderContext.builder().build());
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(consent);
+    }
+
+    private <T> BsonDocument encode(Codec<T> codec, T value) {
+        var document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private <T> T decode(Codec<T> codec, BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private BsonDocument convert(Object entity) {
+        var document = new Document();
+        converter.write(entity, document);
+        return document.toBsonDocument(BsonDocument.class, registry);
+    }
+
+    private MappingMongoConverter converter() {
+        var config = new MongoConfig();
+        MongoCustomConversions conversions = config.mongoCustomConversions();
+        var context = new MongoMappingContext();
+        context.setInitialEntitySet(Set.of(Consent.class, ConsentHistory.class));
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        var mappingConverter = config.mappingMongoConverter(factory, context, conversions);
+        mappingConverter.afterPropertiesSet();
+        return mappingConverter;
+    }
+
+    private static Consent consent() {
+        return Consent.builder()
+                .id(UUID.fromString("01960b7a-7c00-7000-8000-0a0b0c0d0e0f"))
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.ACTIVE)
+                .creationDateTime(CREATION)
+                .expirationDateTime(EXPIRATION)
+                .additionalInfo("Termo de aceite digital")
+                .version(3L)
+                .build();
+    }
+
+    private static ConsentHistory history() {
+        return ConsentHistory.builder()
+                .id(UUID.fromString("01960b7a-7c00-7001-8000-0a0b0c0d0e0f"))
+                .consentId(UUID.fromString("01960b7a-7c00-7000-8000-0a0b0c0d0e0f"))
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.REVOKED)
+                .operation("UPDATED")
+                .timestamp(CREATION)
+                .build();
+    }
+
+}
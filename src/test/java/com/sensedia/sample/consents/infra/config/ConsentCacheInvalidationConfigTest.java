@@ -0,0 +1,29 @@
+package com.sensedia.sample.consents.infra.config;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.UuidRepresentation;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsentCacheInvalidationConfigTest {
+
+    @Test
+    void shouldDecodeStandardAndLegacyKeysAndSkipUnreadableOnes() {
+        var id = UUID.randomUUID();
+
+        assertThat(ConsentCacheInvalidationConfig.extractId(
+                new BsonDocument("_id", new BsonBinary(id, UuidRepresentation.STANDARD)))).isEqualTo(id);
+        assertThat(ConsentCacheInvalidationConfig.extractId(
+                new BsonDocument("_id", new BsonBinary(id, UuidRepresentation.JAVA_LEGACY)))).isEqualTo(id);
+        assertThat(ConsentCacheInvalidationConfig.extractId(
+                new BsonDocument("_id", new BsonBinary(BsonBinarySubType.UUID_STANDARD, new byte[5])))).isNull();
+        assertThat(ConsentCacheInvalidationConfig.extractId(
+                new BsonDocument("_id", new BsonBinary(new byte[16])))).isNull();
+    }
+
+}
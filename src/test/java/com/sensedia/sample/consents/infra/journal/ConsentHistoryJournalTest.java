@@ -0,0 +1,51 @@
+package com.sensedia.sample.consents.infra.journal;
+
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsentHistoryJournalTest {
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void shouldCloseRolledSegmentChannelWhileEntriesArePending() throws Exception {
+        try (var journal = new ConsentHistoryJournal(journalDir, 1, false)) {
+            var first = journal.append(history());
+            var second = journal.append(history());
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(first.isOpen()).isFalse();
+            assertThat(second.isOpen()).isTrue();
+            assertThat(journal.rolledSegmentsPending()).isEqualTo(1);
+
+            journal.acknowledge(first, 1);
+
+            assertThat(journal.rolledSegmentsPending()).isZero();
+            try (var files = Files.list(journalDir)) {
+                assertThat(files).hasSize(1);
+            }
+        }
+    }
+
+    private static ConsentHistory history() {
+        return ConsentHistory.builder()
+                .consentId(UUID.randomUUID())
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.REVOKED)
+                .operation("DELETED")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+}
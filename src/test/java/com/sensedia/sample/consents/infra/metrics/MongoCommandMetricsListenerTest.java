@@ -0,0 +1,101 @@
+package com.sensedia.sample.consents.infra.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoCommandMetricsListenerTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(
+            new ServerId(new ClusterId(), new ServerAddress()));
+    private static final ConnectionDescription SECONDARY = new ConnectionDescription(
+            new ConnectionId(new ServerId(new ClusterId(), new ServerAddress("secondary"))), 17,
+            ServerType.REPLICA_SET_SECONDARY, 1000, 16 * 1024 * 1024, 48 * 1024 * 1024, List.of());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry,
+            Set.of("consents"));
+
+    @Test
+    void shouldRecordLatencyAndReturnedDocumentsPerCollectionAndCommand() {
+        execute(1, "find", "{find: 'consents', filter: {}}",
+                "{ok: 1, cursor: {id: 0, ns: 'db.consents', firstBatch: [{}, {}, {}]}}");
+        execute(2, "getMore", "{getMore: 42, collection: 'consents'}",
+                "{ok: 1, cursor: {id: 0, ns: 'db.consents', nextBatch: [{}]}}");
+
+        assertThat(meterRegistry.get("consents.mongo.commands").tags("command", "find", "collection", "consents",
+                "status", "success").timer().count()).isEqualTo(1);
+        var getMore = meterRegistry.get("consents.mongo.documents").tags("command", "getMore", "collection",
+                "consents").summary();
+        assertThat(getMore.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("consents.mongo.documents").tags("command", "find").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordAffectedDocumentsForWrites() {
+        execute(1, "update", "{update: 'consents', updates: []}", "{ok: 1, n: 5, nModified: 4}");
+        execute(2, "findAndModify", "{findAndModify: 'consents'}",
+                "{ok: 1, lastErrorObject: {n: 1, updatedExisting: true}, value: {}}");
+
+        assertThat(meterRegistry.get("consents.mongo.documents").tags("command", "update").summary().totalAmount())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("consents.mongo.documents").tags("command", "findAndModify").summary()
+                .totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundTagCardinality() {
+        execute(1, "find", "{find: 'tmp_" + System.nanoTime() + "'}", "{ok: 1, cursor: {id: 0, firstBatch: []}}");
+        execute(2, "hello", "{hello: 1}", "{ok: 1}");
+        listener.commandStarted(started(3, "insert", "{insert: 'consents'}"));
+        listener.commandFailed(new CommandFailedEvent(null, 0, 3, CONNECTION, "db", "insert", 1_000_000,
+                new RuntimeException("boom")));
+
+        assertThat(meterRegistry.get("consents.mongo.commands").tags("command", "find", "collection", "other")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("consents.mongo.commands").tags("command", "other", "collection", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("consents.mongo.commands").tags("command", "insert", "status", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("consents.mongo.documents").tags("command", "other").summaries()).isEmpty();
+    }
+
+    @Test
+    void shouldTagCommandsWithServerType() {
+        listener.commandStarted(new CommandStartedEvent(null, 0, 1, SECONDARY, "db", "find",
+                BsonDocument.parse("{find: 'consents'}")));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 0, 1, SECONDARY, "db", "find",
+                BsonDocument.parse("{ok: 1, cursor: {id: 0, firstBatch: [{}]}}"), 1_000_000));
+
+        assertThat(meterRegistry.get("consents.mongo.commands").tags("command", "find", "server.type", "secondary")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("consents.mongo.documents").tags("server.type", "secondary").summary()
+                .totalAmount()).isEqualTo(1);
+    }
+
+    private void execute(int requestId, String commandName, String command, String response) {
+        listener.commandStarted(started(requestId, commandName, command));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 0, requestId, CONNECTION, "db", commandName,
+                BsonDocument.parse(response), 2_000_000));
+    }
+
+    private static CommandStartedEvent started(int requestId, String commandName, String command) {
+        return new CommandStartedEvent(null, 0, requestId, CONNECTION, "db", commandName, BsonDocument.parse(command));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.sensedia.sample.consents.infra.routing;
+
+import com.mongodb.ReadPreference;
+import com.sensedia.sample.consents.infra.config.properties.ConsentReadRoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRouteConfiguredReadsToSecondariesWithBoundedStaleness() {
+        var router = new ReadRouter(new ConsentReadRoutingProperties(true, "secondaryPreferred",
+                Duration.ofSeconds(120), Set.of(ReadRoute.LIST, ReadRoute.SEARCH)), meterRegistry);
+
+        var query = router.route(new Query(), ReadRoute.LIST);
+        router.route(new Query(), ReadRoute.HISTORY);
+
+        assertThat(query.getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS));
+        assertThat(router.readPreference(ReadRoute.HISTORY)).isEqualTo(ReadPreference.primary());
+        assertThat(meterRegistry.get("consents.mongo.reads").tags("route", "list",
+                "read.preference", "secondaryPreferred").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("consents.mongo.reads").tags("route", "history",
+                "read.preference", "primary").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepEveryReadOnPrimaryWhenDisabled() {
+        var router = new ReadRouter(new ConsentReadRoutingProperties(false, "secondary", Duration.ofSeconds(90),
+                Set.of(ReadRoute.values())), meterRegistry);
+
+        for (ReadRoute route : ReadRoute.values()) {
+            assertThat(router.route(new Query(), route).getReadPreference()).isEqualTo(ReadPreference.primary());
+        }
+    }
+
+    @Test
+    void shouldKeepReadYourWritesByDefault() {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("consents.read-routing", ConsentReadRoutingProperties.class);
+        var router = new ReadRouter(properties, meterRegistry);
+
+        assertThat(properties.enabled()).isFalse();
+        for (ReadRoute route : ReadRoute.values()) {
+            assertThat(router.readPreference(route)).isEqualTo(ReadPreference.primary());
+        }
+    }
+
+    @Test
+    void shouldRejectStalenessBelowDriverMinimum() {
+        var properties = new ConsentReadRoutingProperties(true, "secondary", Duration.ofSeconds(30),
+                Set.of(ReadRoute.LIST));
+
+        assertThatThrownBy(() -> new ReadRouter(properties, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.infra.util;
+
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilsTest {
+
+    @Test
+    void shouldDistinguishProjectionsAndNegotiatedFormats() {
+        var fields = new ConsentProjection(Set.of("id", "status"));
+
+        var json = ETagUtils.of(3L, ConsentProjection.ALL, "text/plain, application/json, */*");
+        var projected = ETagUtils.of(3L, fields, null);
+        var protobuf = ETagUtils.of(3L, ConsentProjection.ALL, "application/json;q=0.5, application/x-protobuf");
+        var cbor = ETagUtils.of(3L, ConsentProjection.ALL, "application/cbor");
+
+        assertThat(json).isEqualTo("\"3\"").isEqualTo(ETagUtils.of(3L, ConsentProjection.ALL, null));
+        assertThat(projected).isEqualTo(ETagUtils.of(3L, new ConsentProjection(Set.of("status", "id")), "*/*"));
+        assertThat(Set.of(json, projected, protobuf, cbor)).hasSize(4);
+        assertThat(ETagUtils.of(4L, fields, null)).isNotEqualTo(projected);
+    }
+
+    @Test
+    void shouldMatchVersionOfAnyRepresentationInIfMatch() {
+        var projected = ETagUtils.of(3L, new ConsentProjection(Set.of("id", "status")), "application/cbor");
+
+        assertThat(ETagUtils.parseIfMatch(projected + ", \"7\"")).containsExactlyInAnyOrder(3L, 7L);
+        assertThat(ETagUtils.parseIfMatch("W/" + projected)).isEmpty();
+        assertThat(ETagUtils.parseIfMatch("*")).isNull();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.sensedia.sample.consents.infra.util;
+
+import org.bson.BsonBinary;
+import org.bson.UuidRepresentation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        var uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, after);
+    }
+
+    @Test
+    void shouldGenerateStrictlyIncreasingIdsInStandardBinaryOrder() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            byte[] previous = new BsonBinary(ids.get(i - 1), UuidRepresentation.STANDARD).getData();
+            byte[] current = new BsonBinary(ids.get(i), UuidRepresentation.STANDARD).getData();
+            assertThat(Arrays.compareUnsigned(previous, current)).isNegative();
+        }
+    }
+
+}
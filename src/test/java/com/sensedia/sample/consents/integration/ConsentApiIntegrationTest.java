@@ -3,6 +3,7 @@ package com.sensedia.sample.consents.integration;
 import com.sensedia.sample.consents.ConsentsApplication;
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
 import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
 import com.sensedia.sample.consents.domain.repository.ConsentRepository;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
@@ -12,6 +13,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.TestcontainersConfiguration;
 
@@ -51,7 +56,7 @@ class ConsentApiIntegrationTest {
     @Order(1)
     void shouldCreateConsentSuccessfully() {
         var request = new ConsentRequestDTO(
-                "123.456.789-00",
+                "123.456.789-09",
                 ConsentStatus.ACTIVE,
                 LocalDateTime.of(2026, 12, 31, 23, 59, 59),
                 "Termo de aceite digital"
@@ -68,7 +73,7 @@ class ConsentApiIntegrationTest {
     void shouldGetConsentById() {
 
         var saved = repository.save(Consent.builder()
-                .cpf("999.999.999-99")
+                .cpf(Cpf.parse("529.982.247-25"))
                 .status(ConsentStatus.ACTIVE)
                 .creationDateTime(LocalDateTime.now())
                 .additionalInfo("Aceite via e-mail")
@@ -77,7 +82,7 @@ class ConsentApiIntegrationTest {
         var response = restTemplate.getForEntity(getBaseUrl() + "/" + saved.getId(), String.class);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        assertThat(response.getBody()).contains("999.999.999-99");
+        assertThat(response.getBody()).contains("529.982.247-25");
     }
 
     @Test
@@ -85,13 +90,13 @@ class ConsentApiIntegrationTest {
     void shouldListAllConsents() {
         repository.saveAll(List.of(
                 Consent.builder()
-                        .cpf("111.111.111-11")
+                        .cpf(Cpf.parse("111.444.777-35"))
                         .status(ConsentStatus.ACTIVE)
                         .creationDateTime(LocalDateTime.now())
                         .additionalInfo("Primeiro")
                         .build(),
                 Consent.builder()
-                        .cpf("222.222.222-22")
+                        .cpf(Cpf.parse("222.333.444-05"))
                         .status(ConsentStatus.REVOKED)
                         .creationDateTime(LocalDateTime.now())
                         .additionalInfo("Segundo")
@@ -101,23 +106,23 @@ class ConsentApiIntegrationTest {
         var response = restTemplate.getForEntity(getBaseUrl(), String.class);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        assertThat(response.getBody()).contains("111.111.111-11", "222.222.222-22");
+        assertThat(response.getBody()).contains("111.444.777-35", "222.333.444-05");
     }
 
     @Test
     @Order(4)
     void shouldReturnPagedConsents() {
         repository.saveAll(List.of(
-                Consent.builder().cpf("333.333.333-33").status(ConsentStatus.ACTIVE)
+                Consent.builder().cpf(Cpf.parse("333.444.555-08")).status(ConsentStatus.ACTIVE)
                         .creationDateTime(LocalDateTime.now()).build(),
-                Consent.builder().cpf("444.444.444-44").status(ConsentStatus.ACTIVE)
+                Consent.builder().cpf(Cpf.parse("444.555.666-19")).status(ConsentStatus.ACTIVE)
                         .creationDateTime(LocalDateTime.now()).build()
         ));
 
         var response = restTemplate.getForEntity(getBaseUrl() + "/paged?page=0&size=2", String.class);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
-        assertThat(response.getBody()).contains("333.333.333-33", "444.444.444-44");
+        assertThat(response.getBody()).contains("333.444.555-08", "444.555.666-19");
     }
 
     @Test
@@ -125,7 +130,7 @@ class ConsentApiIntegrationTest {
     void shouldUpdateConsentSuccessfully() {
 
         var saved = repository.save(Consent.builder()
-                .cpf("555.555.555-55")
+                .cpf(Cpf.parse("555.666.777-20"))
                 .status(ConsentStatus.ACTIVE)
                 .creationDateTime(LocalDateTime.now())
                 .additionalInfo("Informação original")
@@ -152,7 +157,7 @@ class ConsentApiIntegrationTest {
     void shouldDeleteConsentSuccessfully() {
 
         var saved = repository.save(Consent.builder()
-                .cpf("666.666.666-66")
+                .cpf(Cpf.parse("666.777.888-30"))
                 .status(ConsentStatus.EXPIRED)
                 .creationDateTime(LocalDateTime.now())
                 .additionalInfo("Será removido")
@@ -166,4 +171,100 @@ class ConsentApiIntegrationTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @Order(7)
+    void shouldHonorConditionalRequestHeaders() {
+
+        var saved = repository.save(Consent.builder()
+                .cpf(Cpf.parse("111.444.777-35"))
+                .status(ConsentStatus.ACTIVE)
+                .creationDateTime(LocalDateTime.now())
+                .additionalInfo("Versionado")
+                .build());
+        var url = getBaseUrl() + "/" + saved.getId();
+
+        var first = restTemplate.getForEntity(url, String.class);
+        var etag = first.getHeaders().getETag();
+        assertThat(etag).isEqualTo("\"0\"");
+
+        var notModified = restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(headers(HttpHeaders.IF_NONE_MATCH, etag)), String.class);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+
+        var update = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.of(2027, 1, 1, 0, 0), "Revogado");
+        var updated = restTemplate.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(update, headers(HttpHeaders.IF_MATCH, etag)), String.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getHeaders().getETag()).isEqualTo("\"1\"");
+
+        var staleUpdate = restTemplate.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(update, headers(HttpHeaders.IF_MATCH, etag)), String.class);
+        assertThat(staleUpdate.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        var staleDelete = restTemplate.exchange(url, HttpMethod.DELETE,
+                new HttpEntity<>(headers(HttpHeaders.IF_MATCH, etag)), Void.class);
+        assertThat(staleDelete.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(repository.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    @Order(8)
+    void shouldReturnOnlyRequestedFields() {
+
+        var saved = repository.save(Consent.builder()
+                .cpf(Cpf.parse("222.333.444-05"))
+                .status(ConsentStatus.ACTIVE)
+                .creationDateTime(LocalDateTime.now())
+                .additionalInfo("Projeção")
+                .build());
+
+        var page = restTemplate.getForEntity(getBaseUrl() + "/paged?fields=status", String.class);
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(page.getBody())
+                .contains("\"id\":\"" + saved.getId() + "\"", "\"status\":\"ACTIVE\"")
+                .doesNotContain("cpf", "additionalInfo", "creationDateTime");
+
+        var single = restTemplate.getForEntity(getBaseUrl() + "/" + saved.getId() + "?fields=cpf", String.class);
+        assertThat(single.getBody()).contains("\"cpf\":\"222.333.444-05\"").doesNotContain("status");
+
+        var invalid = restTemplate.getForEntity(getBaseUrl() + "/paged?fields=senha", String.class);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(9)
+    void shouldSearchByStatusAndExpirationRange() {
+
+        var january = LocalDateTime.of(2026, 1, 1, 0, 0);
+        repository.saveAll(List.of(
+                Consent.builder().cpf(Cpf.parse("111.444.777-35")).status(ConsentStatus.ACTIVE)
+                        .creationDateTime(january).expirationDateTime(january.plusDays(5)).build(),
+                Consent.builder().cpf(Cpf.parse("222.333.444-05")).status(ConsentStatus.ACTIVE)
+                        .creationDateTime(january).expirationDateTime(january.plusDays(10)).build(),
+                Consent.builder().cpf(Cpf.parse("529.982.247-25")).status(ConsentStatus.REVOKED)
+                        .creationDateTime(january).expirationDateTime(january.plusDays(7)).build(),
+                Consent.builder().cpf(Cpf.parse("123.456.789-09")).status(ConsentStatus.ACTIVE)
+                        .creationDateTime(january).expirationDateTime(january.plusMonths(3)).build()));
+
+        var url = getBaseUrl() + "/search?status=ACTIVE&expiresFrom=2026-01-01T00:00:00"
+                + "&expiresTo=2026-02-01T00:00:00&size=1&count=EXACT&fields=cpf";
+        var first = restTemplate.getForEntity(url, String.class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).contains("111.444.777-35", "\"totalElements\":2", "nextCursor");
+
+        var cursor = first.getBody().replaceAll(".*\"nextCursor\":\"([^\"]+)\".*", "$1");
+        var second = restTemplate.getForEntity(url + "&cursor=" + cursor, String.class);
+        assertThat(second.getBody()).contains("222.333.444-05").doesNotContain("nextCursor");
+
+        var estimated = restTemplate.getForEntity(getBaseUrl() + "/search?status=ACTIVE&count=ESTIMATED", String.class);
+        assertThat(estimated.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        var headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers;
+    }
+
 }
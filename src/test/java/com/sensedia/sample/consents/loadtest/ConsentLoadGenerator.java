@@ -0,0 +1,211 @@
+package com.sensedia.sample.consents.loadtest;
+
+import com.sensedia.sample.consents.ConsentsApplication;
+import com.sensedia.sample.consents.TestcontainersConfiguration;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em malha aberta: as requisições são disparadas em horários fixos, definidos pela taxa alvo,
+ * independentemente do tempo de resposta das anteriores. A latência é medida a partir do horário planejado, de
+ * modo que atrasos do servidor não reduzem a carga nem somem das estatísticas (coordinated omission).
+ */
+public class ConsentLoadGenerator {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "200"));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 60));
+    private static final int SEED_SIZE = Integer.getInteger("load.seed", 10_000);
+    private static final String MIX = System.getProperty("load.mix", "create=10,get=50,update=15,delete=5,list=20");
+    private static final Duration GITHUB_LATENCY = Duration.ofMillis(Long.getLong("load.github-latency", 50));
+    private static final Path OUTPUT = Path.of(System.getProperty("load.output", "target/loadtest"));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final List<UUID> ids;
+    private final Operation[] mix;
+    private final AtomicLong cpfSequence = new AtomicLong(SEED_SIZE);
+
+    private ConsentLoadGenerator(HttpClient http, int port, List<UUID> ids, Operation[] mix) {
+        this.http = http;
+        this.baseUrl = "http://localhost:" + port + "/consents";
+        this.ids = ids;
+        this.mix = mix;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Operation[] mix = parseMix(MIX);
+
+        try (GitHubApiStub gitHub = new GitHubApiStub(GITHUB_LATENCY);
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(workers).build();
+             ConfigurableApplicationContext context = start(gitHub, args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ConsentLoadGenerator generator = new ConsentLoadGenerator(http, port,
+                    seed(context.getBean(ConsentRepository.class)), mix);
+
+            generator.run(WARMUP);
+            LoadReport report = generator.run(DURATION);
+            report.write(OUTPUT, RATE, DURATION);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(GitHubApiStub gitHub, String[] extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--consents.github.base-url=" + gitHub.baseUrl()));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.from(ConsentsApplication::main)
+                .with(TestcontainersConfiguration.class)
+                .run(args.toArray(String[]::new))
+                .getApplicationContext();
+    }
+
+    private static List<UUID> seed(ConsentRepository repository) {
+        repository.deleteAll();
+        List<Consent> consents = new ArrayList<>(SEED_SIZE);
+        for (int i = 0; i < SEED_SIZE; i++) {
+            consents.add(Consent.builder()
+                    .cpf(Cpf.fromBase(i))
+                    .status(ConsentStatus.ACTIVE)
+                    .creationDateTime(LocalDateTime.now())
+                    .expirationDateTime(LocalDateTime.now().plusYears(1))
+                    .additionalInfo("Carga")
+                    .build());
+        }
+        return new ArrayList<>(repository.saveAll(consents).stream().map(Consent::getId).toList());
+    }
+
+    private LoadReport run(Duration duration) {
+        LoadReport report = new LoadReport();
+        long period = (long) (1_000_000_000L / RATE);
+        long total = duration.toNanos() / period;
+        long start = System.nanoTime();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * period;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+                requests.execute(() -> execute(operation, intendedStart, report));
+            }
+        }
+        return report;
+    }
+
+    private void execute(Operation operation, long intendedStart, LoadReport report) {
+        UUID id = operation == Operation.CREATE || operation == Operation.LIST ? null : pickId(operation == Operation.DELETE);
+        if (id == null && operation != Operation.LIST) {
+            operation = Operation.CREATE;
+        }
+
+        long actualStart = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = http.send(request(operation, id), HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+            if (success && operation == Operation.CREATE) {
+                response.headers().firstValue("Location").ifPresent(this::addCreated);
+            }
+        } catch (Exception ex) {
+            success = false;
+        }
+        report.record(operation, intendedStart, actualStart, System.nanoTime(), success);
+    }
+
+    private HttpRequest request(Operation operation, UUID id) {
+        return switch (operation) {
+            case CREATE -> json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", createBody());
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).timeout(REQUEST_TIMEOUT).GET().build();
+            case UPDATE -> json(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)), "PUT", updateBody());
+            case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).timeout(REQUEST_TIMEOUT).DELETE().build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/paged?size=20&page="
+                    + ThreadLocalRandom.current().nextInt(10))).timeout(REQUEST_TIMEOUT).GET().build();
+        };
+    }
+
+    private static HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder.timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String createBody() {
+        String cpf = Cpf.fromBase(cpfSequence.getAndIncrement()).toString();
+        String additionalInfo = ThreadLocalRandom.current().nextBoolean() ? ",\"additionalInfo\":\"Carga\"" : "";
+        return "{\"cpf\":\"" + cpf + "\",\"status\":\"ACTIVE\",\"expirationDateTime\":\"" + expiration() + "\""
+                + additionalInfo + "}";
+    }
+
+    private static String updateBody() {
+        return "{\"status\":\"ACTIVE\",\"expirationDateTime\":\"" + expiration() + "\",\"additionalInfo\":\"Atualizado\"}";
+    }
+
+    private static LocalDateTime expiration() {
+        return LocalDateTime.now().plusYears(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private UUID pickId(boolean remove) {
+        synchronized (ids) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            UUID id = ids.get(index);
+            if (remove) {
+                ids.set(index, ids.get(ids.size() - 1));
+                ids.remove(ids.size() - 1);
+            }
+            return id;
+        }
+    }
+
+    private void addCreated(String location) {
+        UUID id = UUID.fromString(location.substring(location.lastIndexOf('/') + 1));
+        synchronized (ids) {
+            ids.add(id);
+        }
+    }
+
+    private static Operation[] parseMix(String mix) {
+        List<Operation> weighted = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            Operation operation = Operation.fromId(parts[0]);
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("Mix de carga vazio: " + mix);
+        }
+        return weighted.toArray(Operation[]::new);
+    }
+
+}
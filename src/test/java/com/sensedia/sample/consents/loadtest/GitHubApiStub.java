@@ -0,0 +1,45 @@
+package com.sensedia.sample.consents.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+class GitHubApiStub implements AutoCloseable {
+
+    private static final byte[] BODY = "{\"login\":\"load\",\"bio\":\"Bio gerada pelo teste de carga\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+
+    GitHubApiStub(Duration latency) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try (exchange; OutputStream body = exchange.getResponseBody()) {
+                Thread.sleep(latency);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, BODY.length);
+                body.write(BODY);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/users";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
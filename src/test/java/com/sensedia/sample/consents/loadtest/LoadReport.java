@@ -0,0 +1,89 @@
+package com.sensedia.sample.consents.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    void record(Operation operation, long intendedStart, long actualStart, long end, boolean success) {
+        Stats target = stats.get(operation);
+        target.responseTime.recordValue(Math.min(end - intendedStart, HIGHEST_TRACKABLE));
+        target.serviceTime.recordValue(Math.min(end - actualStart, HIGHEST_TRACKABLE));
+        if (!success) {
+            target.errors.increment();
+        }
+    }
+
+    void write(Path directory, double rate, Duration duration) throws IOException {
+        Files.createDirectories(directory);
+        Path summary = directory.resolve("summary.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary), false, StandardCharsets.UTF_8)) {
+            print(out, rate, duration);
+        }
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().responseTime;
+            if (histogram.getTotalCount() == 0) continue;
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().id() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        print(System.out, rate, duration);
+        System.out.printf("Relatório e distribuições HdrHistogram (.hgrm) gravados em %s%n", directory.toAbsolutePath());
+    }
+
+    private void print(PrintStream out, double rate, Duration duration) {
+        out.printf("Taxa alvo %.0f req/s, duração %ds. Latências em ms, medidas a partir do horário planejado%n",
+                rate, duration.toSeconds());
+        out.printf("%-22s %9s %8s %9s %9s %9s %9s %14s%n",
+                "endpoint", "count", "errors", "p50", "p99", "p999", "max", "p99 (serviço)");
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram response = entry.getValue().responseTime;
+            if (response.getTotalCount() == 0) continue;
+            out.printf("%-22s %9d %8d %9.2f %9.2f %9.2f %9.2f %14.2f%n",
+                    entry.getKey().label(),
+                    response.getTotalCount(),
+                    entry.getValue().errors.sum(),
+                    millis(response, 50),
+                    millis(response, 99),
+                    millis(response, 99.9),
+                    response.getMaxValue() / NANOS_PER_MILLI,
+                    millis(entry.getValue().serviceTime, 99));
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static final class Stats {
+
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+        private final LongAdder errors = new LongAdder();
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.sensedia.sample.consents.loadtest;
+
+enum Operation {
+
+    CREATE("create", "POST /consents"),
+    GET("get", "GET /consents/{id}"),
+    UPDATE("update", "PUT /consents/{id}"),
+    DELETE("delete", "DELETE /consents/{id}"),
+    LIST("list", "GET /consents/paged");
+
+    private final String id;
+    private final String label;
+
+    Operation(String id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromId(String id) {
+        for (Operation operation : values()) {
+            if (operation.id.equalsIgnoreCase(id.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida no mix de carga: " + id);
+    }
+
+}
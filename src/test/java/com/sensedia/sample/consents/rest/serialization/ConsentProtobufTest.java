@@ -0,0 +1,145 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.CursorPageResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsentProtobufTest {
+
+    private static final LocalDateTime CREATION = LocalDateTime.of(2026, 10, 18, 11, 56, 46, 570_000_000);
+    private static final LocalDateTime EXPIRATION = LocalDateTime.of(2027, 1, 1, 10, 0);
+
+    @Test
+    void shouldReadBackWhatWasWritten() throws Exception {
+        var page = new PageResponseDTO<>(List.of(consent(ConsentStatus.ACTIVE, "Termo de aceite ✓"),
+                consent(ConsentStatus.EXPIRED, null)), 2, 10, 57, 6);
+        var cursorPage = new CursorPageResponseDTO<>(List.of(consent(ConsentStatus.REVOKED, "")), 10,
+                "3x0-9bJSTnu_LHCgxd86-A", 57L, true);
+
+        assertThat(ConsentProtobuf.readPage(CodedInputStream.newInstance(write(page, null)))).isEqualTo(page);
+        assertThat(ConsentProtobuf.readCursorPage(CodedInputStream.newInstance(write(cursorPage, null))))
+                .isEqualTo(cursorPage);
+        assertThat(ConsentProtobuf.readList(CodedInputStream.newInstance(write(page.content(), null))))
+                .isEqualTo(page.content());
+    }
+
+    @Test
+    void shouldWriteOnlySelectedFields() throws Exception {
+        var consent = consent(ConsentStatus.ACTIVE, "Termo de aceite digital");
+        var filters = ConsentFields.filters(new ConsentProjection(Set.of("id", "status")));
+        var selection = (ConsentFields.Selection) filters.findPropertyFilter(ConsentFields.FILTER_ID, consent);
+
+        var read = ConsentProtobuf.readConsent(CodedInputStream.newInstance(write(consent, selection)));
+
+        assertThat(read).isEqualTo(new ConsentResponseDTO(consent.id(), null, ConsentStatus.ACTIVE, null, null,
+                null, null));
+    }
+
+    @Test
+    void shouldMatchPublishedSchema() throws Exception {
+        var consent = consent(ConsentStatus.REVOKED, "Termo de aceite digital");
+        var page = new PageResponseDTO<>(List.of(consent), 0, 10, 1, 1);
+        Descriptors.FileDescriptor schema = schema();
+
+        DynamicMessage message = DynamicMessage.parseFrom(schema.findMessageTypeByName("ConsentPage"),
+                write(page, null));
+
+        assertThat(message.getUnknownFields().asMap()).isEmpty();
+        var descriptor = schema.findMessageTypeByName("ConsentPage");
+        assertThat(message.getField(descriptor.findFieldByName("total_elements"))).isEqualTo(1L);
+        var content = (DynamicMessage) message.getRepeatedField(descriptor.findFieldByName("content"), 0);
+        var consentType = content.getDescriptorForType();
+        ByteBuffer id = ((ByteString) content.getField(consentType.findFieldByName("id"))).asReadOnlyByteBuffer();
+        assertThat(new UUID(id.getLong(), id.getLong())).isEqualTo(consent.id());
+        assertThat(content.getField(consentType.findFieldByName("cpf"))).isEqualTo("123.456.789-09");
+        assertThat(((Descriptors.EnumValueDescriptor) content.getField(consentType.findFieldByName("status")))
+                .getName()).isEqualTo("CONSENT_STATUS_REVOKED");
+        var creation = (DynamicMessage) content.getField(consentType.findFieldByName("creation_date_time"));
+        var dateTimeType = creation.getDescriptorForType();
+        assertThat(LocalDateTime.ofEpochSecond((long) creation.getField(dateTimeType.findFieldByName("seconds")),
+                (int) creation.getField(dateTimeType.findFieldByName("nanos")), ZoneOffset.UTC)).isEqualTo(CREATION);
+    }
+
+    private static byte[] write(Object body, ConsentFields.Selection selection) throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ConsentProtobuf.write(body, selection, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ConsentResponseDTO consent(ConsentStatus status, String additionalInfo) {
+        return new ConsentResponseDTO(UUID.randomUUID(), "123.456.789-09", status, CREATION, EXPIRATION,
+                additionalInfo, null);
+    }
+
+    private static Descriptors.FileDescriptor schema() throws Exception {
+        var file = FileDescriptorProto.newBuilder()
+                .setName("consents.proto")
+                .setPackage(ConsentProtobuf.PACKAGE)
+                .setSyntax("proto3")
+                .addEnumType(EnumDescriptorProto.newBuilder().setName("ConsentStatus")
+                        .addValue(enumValue("CONSENT_STATUS_UNSPECIFIED", 0))
+                        .addValue(enumValue("CONSENT_STATUS_ACTIVE", 1))
+                        .addValue(enumValue("CONSENT_STATUS_REVOKED", 2))
+                        .addValue(enumValue("CONSENT_STATUS_EXPIRED", 3)))
+                .addMessageType(DescriptorProto.newBuilder().setName("LocalDateTime")
+                        .addField(field("seconds", 1, TYPE_INT64))
+                        .addField(field("nanos", 2, TYPE_INT32)))
+                .addMessageType(DescriptorProto.newBuilder().setName("Consent")
+                        .addField(field("id", 1, TYPE_BYTES))
+                        .addField(field("cpf", 2, TYPE_STRING))
+                        .addField(field("status", 3, TYPE_ENUM).setTypeName(".sensedia.consents.v1.ConsentStatus"))
+                        .addField(message("creation_date_time", 4, "LocalDateTime"))
+                        .addField(message("expiration_date_time", 5, "LocalDateTime"))
+                        .addField(field("additional_info", 6, TYPE_STRING)))
+                .addMessageType(DescriptorProto.newBuilder().setName("ConsentPage")
+                        .addField(message("content", 1, "Consent").setLabel(LABEL_REPEATED))
+                        .addField(field("page", 2, TYPE_INT32))
+                        .addField(field("size", 3, TYPE_INT32))
+                        .addField(field("total_elements", 4, TYPE_INT64))
+                        .addField(field("total_pages", 5, TYPE_INT32)))
+                .build();
+        return Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[0]);
+    }
+
+    private static EnumValueDescriptorProto enumValue(String name, int number) {
+        return EnumValueDescriptorProto.newBuilder().setName(name).setNumber(number).build();
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type).setLabel(LABEL_OPTIONAL);
+    }
+
+    private static FieldDescriptorProto.Builder message(String name, int number, String type) {
+        return field(name, number, TYPE_MESSAGE).setTypeName("." + ConsentProtobuf.PACKAGE + "." + type);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.sensedia.sample.consents.rest.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.PageResponseDTO;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsentResponseSerializerTest {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(ConsentFields.ALL_FIELDS)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper optimizedMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(ConsentFields.ALL_FIELDS)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new ConsentJsonModule())
+            .build();
+
+    @Test
+    void shouldWriteSameJsonAsDefaultMapper() throws Exception {
+        var responses = List.of(
+                response(LocalDateTime.of(2025, 4, 11, 12, 0, 0), LocalDateTime.of(2026, 12, 31, 23, 59, 59)),
+                response(LocalDateTime.of(2026, 10, 18, 11, 56, 46, 570_000_000),
+                        LocalDateTime.of(2027, 1, 1, 0, 0, 0, 1)),
+                response(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_789), LocalDateTime.of(10_000, 1, 1, 0, 0)),
+                new ConsentResponseDTO(UUID.fromString("00000000-0000-0000-0000-000000000000"), null, null,
+                        null, null, null, null),
+                new ConsentResponseDTO(UUID.randomUUID(), "123.456.789-09", ConsentStatus.REVOKED,
+                        LocalDateTime.of(2025, 4, 11, 12, 0), null, "Aceite \"digital\"\nção ✓", 3L));
+
+        for (ConsentResponseDTO response : responses) {
+            assertThat(optimizedMapper.writeValueAsString(response))
+                    .isEqualTo(defaultMapper.writeValueAsString(response));
+        }
+        assertThat(optimizedMapper.writeValueAsString(responses.get(1)))
+                .contains("\"creationDateTime\":\"2026-10-18T11:56:46.57\"")
+                .contains("\"expirationDateTime\":\"2027-01-01T00:00:00.000000001\"");
+        var page = new PageResponseDTO<>(responses, 0, responses.size(), responses.size(), 1);
+        assertThat(optimizedMapper.writeValueAsString(page)).isEqualTo(defaultMapper.writeValueAsString(page));
+    }
+
+    @Test
+    void shouldHonourFieldsProjection() throws Exception {
+        var response = response(LocalDateTime.of(2025, 4, 11, 12, 0, 0, 5_000), null);
+        var projection = new ConsentProjection(Set.of("id", "status", "expirationDateTime"));
+
+        String json = optimizedMapper.writer(ConsentFields.filters(projection)).writeValueAsString(response);
+
+        assertThat(json).isEqualTo(defaultMapper.writer(ConsentFields.filters(projection)).writeValueAsString(response));
+        assertThat(json).isEqualTo("{\"id\":\"" + response.id() + "\",\"status\":\"ACTIVE\",\"expirationDateTime\":null}");
+    }
+
+    @Test
+    void shouldFallBackToBeanSerializerWhenFeaturesChangeOutput() throws Exception {
+        var response = response(LocalDateTime.of(2025, 4, 11, 12, 0, 0, 123_000_000),
+                LocalDateTime.of(2026, 12, 31, 23, 59, 59));
+
+        assertThat(optimizedMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(response))
+                .isEqualTo(defaultMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .writeValueAsString(response))
+                .contains("\"creationDateTime\":[2025,4,11,12,0,0,123000000]");
+        assertThat(optimizedMapper.writer(SerializationFeature.WRITE_ENUMS_USING_INDEX).writeValueAsString(response))
+                .contains("\"status\":0");
+    }
+
+    private static ConsentResponseDTO response(LocalDateTime creation, LocalDateTime expiration) {
+        return new ConsentResponseDTO(UUID.randomUUID(), "123.456.789-09", ConsentStatus.ACTIVE, creation,
+                expiration, "Termo de aceite digital", 0L);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.sensedia.sample.consents.service.impl;
+
+import com.sensedia.sample.consents.application.history.ConsentHistoryReader;
+import com.sensedia.sample.consents.application.service.impl.ConsentHistoryServiceImpl;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.repository.ConsentHistoryFilter;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
+import com.sensedia.sample.consents.rest.dto.ConsentHistoryResponseDTO;
+import com.sensedia.sample.consents.rest.exception.InvalidCursorException;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ConsentHistoryServiceImplTest {
+
+    private final ConsentHistoryReader reader = mock(ConsentHistoryReader.class);
+    private final ConsentMapper mapper = mock(ConsentMapper.class);
+    private final ConsentHistoryServiceImpl service = new ConsentHistoryServiceImpl(reader, mapper);
+
+    @BeforeEach
+    void setup() {
+        when(mapper.toHistoryResponseDTO(any(ConsentHistory.class))).thenAnswer(invocation -> {
+            ConsentHistory history = invocation.getArgument(0);
+            return new ConsentHistoryResponseDTO(history.getId(), history.getConsentId(), history.getCpf().toString(),
+                    history.getStatus(), null, null, history.getOperation(), history.getTimestamp());
+        });
+    }
+
+    @Test
+    void shouldReturnHistoryPageWithKeysetCursorFromLastItem() {
+        var consentId = UUID.randomUUID();
+        var from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        var to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        var first = history(consentId, from.plusDays(1));
+        var second = history(consentId, from.plusDays(2));
+        var filter = ConsentHistoryFilter.byConsentId(consentId, from, to);
+        when(reader.findPageAfter(filter, null, null, 2)).thenReturn(List.of(first, second));
+
+        var result = service.getHistoryByConsentId(consentId, from, to, null, 1);
+
+        assertThat(result.content()).extracting(ConsentHistoryResponseDTO::id).containsExactly(first.getId());
+        assertThat(result.nextCursor()).isEqualTo(CursorUtils.encode(first.getTimestamp(), first.getId()));
+        assertThat(result.totalElements()).isNull();
+    }
+
+    @Test
+    void shouldResumeFromDecodedCursor() {
+        var consentId = UUID.randomUUID();
+        var last = history(consentId, LocalDateTime.of(2025, 1, 10, 12, 30, 15, 123_456_000));
+        var filter = ConsentHistoryFilter.byConsentId(consentId, null, null);
+        when(reader.findPageAfter(filter, last.getTimestamp(), last.getId(), 11)).thenReturn(List.of());
+
+        var result = service.getHistoryByConsentId(consentId, null, null,
+                CursorUtils.encode(last.getTimestamp(), last.getId()), 10);
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+        verify(reader).findPageAfter(filter, last.getTimestamp(), last.getId(), 11);
+    }
+
+    @Test
+    void shouldQueryHistoryByNormalizedCpf() {
+        var cpf = Cpf.parse("123.456.789-09");
+        when(reader.findPageAfter(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        service.getHistoryByCpf("12345678909", null, null, null, 10);
+
+        verify(reader).findPageAfter(ConsentHistoryFilter.byCpf(cpf, null, null), null, null, 11);
+    }
+
+    @Test
+    void shouldRejectInvalidCpfRangeAndCursor() {
+        var from = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        assertThatThrownBy(() -> service.getHistoryByCpf("123.456.789-00", null, null, null, 10))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> service.getHistoryByConsentId(UUID.randomUUID(), from, from, null, 10))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> service.streamHistoryByConsentId(UUID.randomUUID(), from, from.minusDays(1)))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> service.getHistoryByConsentId(UUID.randomUUID(), null, null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(reader);
+    }
+
+    @Test
+    void shouldOpenCursorLazilyAndCloseItWithTheStream() {
+        var consentId = UUID.randomUUID();
+        var closed = new boolean[1];
+        var filter = ConsentHistoryFilter.byConsentId(consentId, null, null);
+        when(reader.stream(filter)).thenReturn(Stream.of(history(consentId, LocalDateTime.now()))
+                .onClose(() -> closed[0] = true));
+
+        try (var histories = service.streamHistoryByConsentId(consentId, null, null)) {
+            verify(reader, never()).stream(any());
+            assertThat(histories.toList()).hasSize(1);
+        }
+
+        assertThat(closed[0]).isTrue();
+    }
+
+    private static ConsentHistory history(UUID consentId, LocalDateTime timestamp) {
+        return ConsentHistory.builder()
+                .consentId(consentId)
+                .cpf(Cpf.parse("123.456.789-09"))
+                .status(ConsentStatus.ACTIVE)
+                .operation("UPDATED")
+                .timestamp(timestamp)
+                .build();
+    }
+
+}
@@ -1,23 +1,44 @@
 package com.sensedia.sample.consents.service.impl;
 
+import com.sensedia.sample.consents.application.cache.ConsentCache;
+import com.sensedia.sample.consents.application.enrichment.ConsentEnricher;
+import com.sensedia.sample.consents.application.history.ConsentHistoryWriter;
 import com.sensedia.sample.consents.application.service.impl.ConsentServiceImpl;
 import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentBatchProperties;
+import com.sensedia.sample.consents.infra.config.properties.ConsentSearchProperties;
+import com.sensedia.sample.consents.infra.metrics.ConsentOutcomeMetrics;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
 import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
 import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.enums.CountMode;
 import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
 import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchItemResultDTO;
+import com.sensedia.sample.consents.rest.exception.BatchLimitExceededException;
 import com.sensedia.sample.consents.rest.exception.ConsentNotFoundException;
 import com.sensedia.sample.consents.rest.exception.DuplicateCpfException;
+import com.sensedia.sample.consents.rest.exception.InvalidCursorException;
+import com.sensedia.sample.consents.rest.exception.InvalidFilterException;
+import com.sensedia.sample.consents.rest.exception.PreconditionFailedException;
 import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
-import com.sensedia.sample.consents.domain.repository.ConsentHistoryRepository;
+import com.sensedia.sample.consents.rest.projection.ConsentFields;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
 import com.sensedia.sample.consents.domain.repository.ConsentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,7 +46,9 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,11 +68,31 @@ class ConsentServiceImplTest {
     private ConsentMapper mapper;
 
     @Mock
-    private ConsentHistoryRepository historyRepository;
+    private ConsentHistoryWriter historyWriter;
 
     @Mock
     private GitHubClient gitHubClient;
 
+    @Mock
+    private ConsentEnricher enricher;
+
+    @Mock
+    private ConsentCache consentCache;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ConsentBatchProperties batchProperties = new ConsentBatchProperties(3);
+
+    @Spy
+    private ConsentSearchProperties searchProperties = new ConsentSearchProperties(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ConsentOutcomeMetrics outcomeMetrics = new ConsentOutcomeMetrics(meterRegistry);
+
     @BeforeEach
     void setup() {
         openMocks = MockitoAnnotations.openMocks(this);
@@ -63,11 +106,11 @@ class ConsentServiceImplTest {
     @Test
     void shouldCreateConsentWithAdditionalInfoFromGitHubWhenMissing() {
 
-        var request = new ConsentRequestDTO("123.456.789-00", ConsentStatus.ACTIVE, LocalDateTime.now().plusDays(1),
+        var request = new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, LocalDateTime.now().plusDays(1),
                 null);
 
         var entity = Consent.builder()
-                .cpf(request.cpf())
+                .cpf(Cpf.parse(request.cpf()))
                 .creationDateTime(LocalDateTime.now())
                 .build();
 
@@ -78,29 +121,111 @@ class ConsentServiceImplTest {
                 .additionalInfo("GitHub Bio")
                 .build();
 
-        when(repository.existsByCpf(request.cpf())).thenReturn(false);
         when(mapper.toEntity(request)).thenReturn(entity);
         when(gitHubClient.getUserBioOrDefault("fsousa1987")).thenReturn("GitHub Bio");
-        when(repository.save(entity)).thenReturn(saved);
-        when(mapper.toResponseDTO(saved)).thenReturn(new ConsentResponseDTO(saved.getId(), saved.getCpf(), null,
-                saved.getCreationDateTime(), null, saved.getAdditionalInfo()));
+        when(repository.insert(entity)).thenReturn(saved);
+        when(mapper.toResponseDTO(saved)).thenReturn(new ConsentResponseDTO(saved.getId(), saved.getCpf().toString(), null,
+                saved.getCreationDateTime(), null, saved.getAdditionalInfo(), 0L));
 
         var response = service.createConsent(request);
 
         assertThat(response.additionalInfo()).isEqualTo("GitHub Bio");
-        verify(repository).save(entity);
+        verify(repository).insert(entity);
+        verify(repository, never()).save(any(Consent.class));
+    }
+
+    @Test
+    void shouldSaveConsentAndDeferGitHubEnrichmentWhenAsync() {
+
+        var request = new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, LocalDateTime.now().plusDays(1),
+                null);
+
+        var entity = Consent.builder()
+                .cpf(Cpf.parse(request.cpf()))
+                .build();
+
+        when(enricher.isAsync()).thenReturn(true);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.insert(entity)).thenReturn(entity);
+        when(mapper.toResponseDTO(entity)).thenReturn(new ConsentResponseDTO(entity.getId(), entity.getCpf().toString(), null,
+                entity.getCreationDateTime(), null, null, 0L));
+
+        var response = service.createConsent(request);
+
+        assertThat(response.additionalInfo()).isNull();
+        verify(enricher).enrichLater(entity.getId(), "fsousa1987");
+        verifyNoInteractions(gitHubClient);
     }
 
     @Test
     void shouldThrowExceptionWhenCpfAlreadyExists() {
-        ConsentRequestDTO request = new ConsentRequestDTO("123.456.789-00", null,
-                LocalDateTime.now().plusDays(1), null);
+        ConsentRequestDTO request = new ConsentRequestDTO("123.456.789-09", null,
+                LocalDateTime.now().plusDays(1), "Info");
+        var entity = Consent.builder().cpf(Cpf.parse(request.cpf())).additionalInfo("Info").build();
 
-        when(repository.existsByCpf(request.cpf())).thenReturn(true);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.insert(entity)).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
 
         assertThatThrownBy(() -> service.createConsent(request))
                 .isInstanceOf(DuplicateCpfException.class)
                 .hasMessageContaining("Já existe um consentimento com este CPF");
+        assertThat(meterRegistry.get("consents.outcomes").tag("outcome", "duplicate_cpf").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreateConsentsBatchReportingEachItem() {
+
+        var valid = new ConsentRequestDTO("111.444.777-35", ConsentStatus.ACTIVE, null, "Info");
+        var existing = new ConsentRequestDTO("222.333.444-05", ConsentStatus.ACTIVE, null, "Info");
+        var invalid = new ConsentRequestDTO("123", ConsentStatus.ACTIVE, null, "Info");
+
+        when(repository.findExistingCpfs(Set.of(Cpf.parse(valid.cpf()), Cpf.parse(existing.cpf()))))
+                .thenReturn(Set.of(Cpf.parse(existing.cpf())));
+        when(mapper.toEntity(valid)).thenReturn(Consent.builder().cpf(Cpf.parse(valid.cpf())).additionalInfo("Info").build());
+        when(repository.insertAllUnordered(anyList())).thenReturn(Set.of());
+
+        var response = service.createConsentsBatch(List.of(valid, existing, invalid));
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.duplicates()).isEqualTo(1);
+        assertThat(response.invalid()).isEqualTo(1);
+        assertThat(response.items()).extracting(ConsentBatchItemResultDTO::status).containsExactly(
+                ConsentBatchItemResultDTO.Status.CREATED,
+                ConsentBatchItemResultDTO.Status.DUPLICATE,
+                ConsentBatchItemResultDTO.Status.INVALID);
+        verify(repository).findExistingCpfs(anySet());
+        verifyNoInteractions(gitHubClient);
+    }
+
+    @Test
+    void shouldDeferGitHubEnrichmentOfBatchItemsWhenAsync() {
+
+        var withoutInfo = new ConsentRequestDTO("111.444.777-35", ConsentStatus.ACTIVE, null, null);
+        var withInfo = new ConsentRequestDTO("222.333.444-05", ConsentStatus.ACTIVE, null, "Info");
+        var pending = Consent.builder().cpf(Cpf.parse(withoutInfo.cpf())).build();
+
+        when(enricher.isAsync()).thenReturn(true);
+        when(repository.findExistingCpfs(anySet())).thenReturn(Set.of());
+        when(mapper.toEntity(withoutInfo)).thenReturn(pending);
+        when(mapper.toEntity(withInfo)).thenReturn(Consent.builder().cpf(Cpf.parse(withInfo.cpf())).additionalInfo("Info").build());
+        when(repository.insertAllUnordered(anyList())).thenReturn(Set.of());
+
+        var response = service.createConsentsBatch(List.of(withoutInfo, withInfo));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(pending.getAdditionalInfo()).isNull();
+        verify(enricher).enrichLater(List.of(pending.getId()), "fsousa1987");
+        verify(enricher, never()).enrichLater(any(UUID.class), anyString());
+        verifyNoInteractions(gitHubClient);
+    }
+
+    @Test
+    void shouldRejectBatchAboveConfiguredLimit() {
+        var request = new ConsentRequestDTO("111.444.777-35", ConsentStatus.ACTIVE, null, "Info");
+
+        assertThatThrownBy(() -> service.createConsentsBatch(List.of(request, request, request, request)))
+                .isInstanceOf(BatchLimitExceededException.class);
     }
 
     @Test
@@ -110,51 +235,74 @@ class ConsentServiceImplTest {
 
         var entity = Consent.builder()
                 .id(id)
-                .cpf("123.456.789-00")
+                .cpf(Cpf.parse("123.456.789-09"))
                 .creationDateTime(LocalDateTime.now())
                 .build();
 
         var responseDTO = new ConsentResponseDTO(
-                id, entity.getCpf(), entity.getStatus(), entity.getCreationDateTime(), null, "Info"
+                id, entity.getCpf().toString(), entity.getStatus(), entity.getCreationDateTime(), null, "Info", 0L
         );
 
-        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(consentCache.findById(id)).thenReturn(Optional.of(entity));
         when(mapper.toResponseDTO(entity)).thenReturn(responseDTO);
 
         var result = service.getConsentById(id);
 
         assertThat(result.id()).isEqualTo(id);
+        verify(repository, never()).findById(any());
     }
 
     @Test
     void shouldThrowExceptionWhenIdNotFound() {
 
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(java.util.Optional.empty());
+        when(consentCache.findById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getConsentById(id))
                 .isInstanceOf(ConsentNotFoundException.class)
                 .hasMessageContaining("Consentimento não encontrado");
+        assertThat(meterRegistry.get("consents.outcomes").tag("outcome", "not_found").counter().count())
+                .isEqualTo(1);
     }
 
     @Test
     void shouldReturnAllConsents() {
 
         var consent = Consent.builder()
-                .cpf("123.456.789-00")
+                .cpf(Cpf.parse("123.456.789-09"))
                 .creationDateTime(LocalDateTime.now())
                 .build();
 
-        when(repository.findAll()).thenReturn(List.of(consent));
+        when(repository.findAll(ConsentProjection.ALL)).thenReturn(List.of(consent));
         when(mapper.toResponseDTO(consent)).thenReturn(
-                new ConsentResponseDTO(consent.getId(), consent.getCpf(), consent.getStatus(),
-                        consent.getCreationDateTime(), null, consent.getAdditionalInfo())
+                new ConsentResponseDTO(consent.getId(), consent.getCpf().toString(), consent.getStatus(),
+                        consent.getCreationDateTime(), null, consent.getAdditionalInfo(), 0L)
         );
 
-        var result = service.getAllConsents();
+        var result = service.getAllConsents(ConsentProjection.ALL);
 
         assertThat(result).hasSize(1);
-        verify(repository).findAll();
+        verify(repository).findAll(ConsentProjection.ALL);
+    }
+
+    @Test
+    void shouldStreamAllConsents() {
+
+        var consent = Consent.builder()
+                .cpf(Cpf.parse("123.456.789-09"))
+                .creationDateTime(LocalDateTime.now())
+                .build();
+
+        when(repository.streamAll(ConsentProjection.ALL)).thenReturn(Stream.of(consent));
+        when(mapper.toResponseDTO(consent)).thenReturn(
+                new ConsentResponseDTO(consent.getId(), consent.getCpf().toString(), consent.getStatus(),
+                        consent.getCreationDateTime(), null, consent.getAdditionalInfo(), 0L)
+        );
+
+        try (var result = service.streamAllConsents(ConsentProjection.ALL)) {
+            assertThat(result.toList()).hasSize(1);
+        }
+        verify(repository, never()).findAll();
     }
 
     @Test
@@ -162,57 +310,132 @@ class ConsentServiceImplTest {
 
         int page = 0, size = 1;
         var consent = Consent.builder()
-                .cpf("999.999.999-99")
+                .cpf(Cpf.parse("529.982.247-25"))
                 .creationDateTime(LocalDateTime.now())
                 .build();
 
         var pageResult = new PageImpl<>(List.of(consent), PageRequest.of(page, size), 1);
 
-        when(repository.findAll(any(Pageable.class))).thenReturn(pageResult);
+        when(repository.findPage(any(Pageable.class), eq(ConsentProjection.ALL))).thenReturn(pageResult);
         when(mapper.toResponseDTO(consent)).thenReturn(
-                new ConsentResponseDTO(consent.getId(), consent.getCpf(), consent.getStatus(),
-                        consent.getCreationDateTime(), null, consent.getAdditionalInfo())
+                new ConsentResponseDTO(consent.getId(), consent.getCpf().toString(), consent.getStatus(),
+                        consent.getCreationDateTime(), null, consent.getAdditionalInfo(), 0L)
         );
 
-        var result = service.getAllConsentsPaged(page, size);
+        var result = service.getAllConsentsPaged(page, size, ConsentProjection.ALL);
 
         assertThat(result.content()).hasSize(1);
         assertThat(result.totalPages()).isEqualTo(1);
     }
 
+    @Test
+    void shouldReturnCursorPageWithNextCursorAndWithoutCount() {
+
+        var first = Consent.builder().cpf(Cpf.parse("111.444.777-35")).build();
+        var second = Consent.builder().cpf(Cpf.parse("222.333.444-05")).build();
+
+        when(repository.findPageAfter(null, 2, ConsentProjection.ALL)).thenReturn(List.of(first, second));
+        when(mapper.toResponseDTO(any(Consent.class))).thenAnswer(invocation -> {
+            Consent consent = invocation.getArgument(0);
+            return new ConsentResponseDTO(consent.getId(), consent.getCpf().toString(), null, null, null, null, 0L);
+        });
+
+        var result = service.getConsentsByCursor(null, 1, false, ConsentProjection.ALL);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isEqualTo(CursorUtils.encode(first.getId()));
+        assertThat(result.totalElements()).isNull();
+        verify(repository, never()).countAll();
+    }
+
+    @Test
+    void shouldPushFieldProjectionDownToRepository() {
+
+        var projection = ConsentFields.parse("status");
+        when(repository.findPageAfter(null, 11, projection)).thenReturn(List.of());
+
+        var result = service.getConsentsByCursor(null, 10, false, projection);
+
+        assertThat(result.content()).isEmpty();
+        assertThat(projection.fields()).containsExactlyInAnyOrder("id", "status");
+        verify(repository).findPageAfter(null, 11, projection);
+    }
+
+    @Test
+    void shouldRejectUnknownProjectionField() {
+        assertThatThrownBy(() -> ConsentFields.parse("status,senha"))
+                .isInstanceOf(InvalidFilterException.class);
+    }
+
+    @Test
+    void shouldSearchByExpirationKeysetAndCapCount() {
+
+        var from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        var filter = new ConsentSearchFilter(Set.of(ConsentStatus.ACTIVE), from, from.plusMonths(1), null, null);
+        var first = Consent.builder().cpf(Cpf.parse("111.444.777-35")).expirationDateTime(from.plusDays(1)).build();
+        var second = Consent.builder().cpf(Cpf.parse("222.333.444-05")).expirationDateTime(from.plusDays(2)).build();
+
+        when(repository.search(filter, null, null, 2, ConsentProjection.ALL)).thenReturn(List.of(first, second));
+        when(repository.countMatching(filter, 5)).thenReturn(5L);
+
+        var result = service.searchConsents(filter, null, 1, CountMode.CAPPED, ConsentProjection.ALL);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isEqualTo(CursorUtils.encode(first.getExpirationDateTime(), first.getId()));
+        assertThat(result.totalElements()).isEqualTo(5L);
+        assertThat(result.totalCapped()).isTrue();
+
+        var next = CursorUtils.decodeTimestampCursor(result.nextCursor());
+        when(repository.search(filter, next.timestamp(), next.id(), 2, ConsentProjection.ALL)).thenReturn(List.of());
+        service.searchConsents(filter, result.nextCursor(), 1, CountMode.NONE, ConsentProjection.ALL);
+        verify(repository).search(filter, first.getExpirationDateTime(), first.getId(), 2, ConsentProjection.ALL);
+    }
+
+    @Test
+    void shouldRejectEstimatedCountWithFilters() {
+        var filter = new ConsentSearchFilter(Set.of(ConsentStatus.EXPIRED), null, null, null, null);
+
+        assertThatThrownBy(() -> service.searchConsents(filter, null, 10, CountMode.ESTIMATED, ConsentProjection.ALL))
+                .isInstanceOf(InvalidFilterException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorIsInvalid() {
+        assertThatThrownBy(() -> service.getConsentsByCursor("not-a-cursor", 10, false, ConsentProjection.ALL))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     @Test
     void shouldUpdateConsentSuccessfully() {
 
         UUID id = UUID.randomUUID();
+        var request = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.now().plusDays(2), "New Info");
 
-        var existing = Consent.builder()
+        var updated = Consent.builder()
                 .id(id)
-                .cpf("123.456.789-00")
+                .cpf(Cpf.parse("123.456.789-09"))
                 .creationDateTime(LocalDateTime.now())
-                .status(ConsentStatus.ACTIVE)
-                .additionalInfo("Old Info")
+                .status(request.status())
+                .expirationDateTime(request.expirationDateTime())
+                .additionalInfo(request.additionalInfo())
                 .build();
 
-        var request = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.now().plusDays(2), "New Info");
-
-        doAnswer(invocation -> {
-            ConsentUpdateDTO dto = invocation.getArgument(0);
-            Consent entity = invocation.getArgument(1);
-            entity.setStatus(dto.status());
-            entity.setExpirationDateTime(dto.expirationDateTime());
-            entity.setAdditionalInfo(dto.additionalInfo());
-            return null;
-        }).when(mapper).updateEntityFromDto(request, existing);
-
-        when(repository.findById(id)).thenReturn(Optional.of(existing));
-        when(repository.save(existing)).thenReturn(existing);
-        when(mapper.toResponseDTO(existing)).thenReturn(new ConsentResponseDTO(id, existing.getCpf(), request.status(),
-                existing.getCreationDateTime(), request.expirationDateTime(), request.additionalInfo()));
+        when(repository.updateAndGet(id, request.status(), request.expirationDateTime(), request.additionalInfo(), null))
+                .thenReturn(Optional.of(updated));
+        when(mapper.toResponseDTO(updated)).thenReturn(new ConsentResponseDTO(id, updated.getCpf().toString(),
+                request.status(), updated.getCreationDateTime(), request.expirationDateTime(),
+                request.additionalInfo(), updated.getVersion()));
 
-        var response = service.updateConsent(id, request);
+        var response = service.updateConsent(id, request, null);
 
         assertThat(response.status()).isEqualTo(request.status());
         assertThat(response.additionalInfo()).isEqualTo("New Info");
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any(Consent.class));
+        verify(consentCache).invalidate(id);
+        verify(historyWriter).write(argThat(history ->
+                history.getConsentId().equals(id) && history.getOperation().equals("UPDATED")));
     }
 
     @Test
@@ -220,9 +443,10 @@ class ConsentServiceImplTest {
         UUID id = UUID.randomUUID();
         var request = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.now().plusDays(2), "Info");
 
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.updateAndGet(id, request.status(), request.expirationDateTime(), request.additionalInfo(), null))
+                .thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.updateConsent(id, request))
+        assertThatThrownBy(() -> service.updateConsent(id, request, null))
                 .isInstanceOf(ConsentNotFoundException.class);
     }
 
@@ -233,18 +457,19 @@ class ConsentServiceImplTest {
 
         var entity = Consent.builder()
                 .id(id)
-                .cpf("123.456.789-00")
+                .cpf(Cpf.parse("123.456.789-09"))
                 .creationDateTime(LocalDateTime.now())
                 .status(ConsentStatus.ACTIVE)
                 .additionalInfo("info")
                 .build();
 
-        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(repository.deleteAndGet(id, null)).thenReturn(Optional.of(entity));
 
-        service.deleteConsent(id);
+        service.deleteConsent(id, null);
 
-        verify(repository).deleteById(id);
-        verify(historyRepository).save(argThat(history ->
+        verify(repository, never()).findById(any());
+        verify(consentCache).invalidate(id);
+        verify(historyWriter).write(argThat(history ->
                 history.getConsentId().equals(id) &&
                         history.getOperation().equals("DELETED")
         ));
@@ -254,11 +479,43 @@ class ConsentServiceImplTest {
     void shouldThrowExceptionWhenDeletingNonExistingConsent() {
 
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(java.util.Optional.empty());
+        when(repository.deleteAndGet(id, null)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.deleteConsent(id))
+        assertThatThrownBy(() -> service.deleteConsent(id, null))
                 .isInstanceOf(ConsentNotFoundException.class)
                 .hasMessageContaining("Consentimento não encontrado");
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldRejectUpdateWhenVersionDoesNotMatch() {
+        UUID id = UUID.randomUUID();
+        var request = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.now().plusDays(2), "Info");
+        var expectedVersions = Set.of(3L);
+
+        when(repository.updateAndGet(id, request.status(), request.expirationDateTime(), request.additionalInfo(),
+                expectedVersions)).thenReturn(Optional.empty());
+        when(repository.existsById(id)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.updateConsent(id, request, expectedVersions))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(consentCache, never()).invalidate(any());
+        verifyNoInteractions(historyWriter);
+        assertThat(meterRegistry.get("consents.outcomes").tag("outcome", "precondition_failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportNotFoundWhenConditionalDeleteTargetsMissingConsent() {
+        UUID id = UUID.randomUUID();
+        var expectedVersions = Set.of(0L);
+
+        when(repository.deleteAndGet(id, expectedVersions)).thenReturn(Optional.empty());
+        when(repository.existsById(id)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.deleteConsent(id, expectedVersions))
+                .isInstanceOf(ConsentNotFoundException.class);
+        verifyNoInteractions(historyWriter);
     }
 
 }
@@ -0,0 +1,237 @@
+package com.sensedia.sample.consents.service.impl;
+
+import com.sensedia.sample.consents.application.service.impl.ReactiveConsentServiceImpl;
+import com.sensedia.sample.consents.domain.enums.ConsentStatus;
+import com.sensedia.sample.consents.domain.enums.CountMode;
+import com.sensedia.sample.consents.domain.model.Consent;
+import com.sensedia.sample.consents.domain.model.Cpf;
+import com.sensedia.sample.consents.domain.model.ConsentHistory;
+import com.sensedia.sample.consents.domain.repository.ConsentProjection;
+import com.sensedia.sample.consents.domain.repository.ConsentSearchFilter;
+import com.sensedia.sample.consents.domain.repository.reactive.ReactiveConsentHistoryRepository;
+import com.sensedia.sample.consents.domain.repository.reactive.ReactiveConsentRepository;
+import com.sensedia.sample.consents.infra.client.GitHubClient;
+import com.sensedia.sample.consents.infra.config.properties.ConsentBatchProperties;
+import com.sensedia.sample.consents.infra.config.properties.ConsentSearchProperties;
+import com.sensedia.sample.consents.infra.metrics.ConsentOutcomeMetrics;
+import com.sensedia.sample.consents.infra.util.CursorUtils;
+import com.sensedia.sample.consents.rest.dto.ConsentBatchItemResultDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentRequestDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentResponseDTO;
+import com.sensedia.sample.consents.rest.dto.ConsentUpdateDTO;
+import com.sensedia.sample.consents.rest.exception.ConsentNotFoundException;
+import com.sensedia.sample.consents.rest.exception.DuplicateCpfException;
+import com.sensedia.sample.consents.rest.exception.PreconditionFailedException;
+import com.sensedia.sample.consents.rest.mapper.ConsentMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ReactiveConsentServiceImplTest {
+
+    private AutoCloseable openMocks;
+
+    @InjectMocks
+    private ReactiveConsentServiceImpl service;
+
+    @Mock
+    private ReactiveConsentRepository repository;
+
+    @Mock
+    private ReactiveConsentHistoryRepository historyRepository;
+
+    @Mock
+    private ConsentMapper mapper;
+
+    @Mock
+    private GitHubClient gitHubClient;
+
+    @Spy
+    private ConsentOutcomeMetrics outcomeMetrics = new ConsentOutcomeMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ConsentBatchProperties batchProperties = new ConsentBatchProperties(3);
+
+    @Spy
+    private ConsentSearchProperties searchProperties = new ConsentSearchProperties(5);
+
+    @BeforeEach
+    void setup() {
+        openMocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openMocks.close();
+    }
+
+    @Test
+    void shouldCreateConsentWithAdditionalInfoFromGitHubWhenMissing() {
+
+        var request = new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, LocalDateTime.now().plusDays(1),
+                null);
+        var entity = Consent.builder().cpf(Cpf.parse(request.cpf())).build();
+
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(gitHubClient.getUserBio("fsousa1987")).thenReturn(Mono.just("GitHub Bio"));
+        when(repository.insert(entity)).thenReturn(Mono.just(entity));
+        when(mapper.toResponseDTO(entity)).thenAnswer(invocation -> new ConsentResponseDTO(entity.getId(),
+                entity.getCpf().toString(), null, entity.getCreationDateTime(), null, entity.getAdditionalInfo(), 0L));
+
+        var response = service.createConsent(request).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.additionalInfo()).isEqualTo("GitHub Bio");
+        verify(gitHubClient, never()).getUserBioOrDefault(any());
+    }
+
+    @Test
+    void shouldFailWhenCpfAlreadyExists() {
+        var request = new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, null, "Info");
+
+        var entity = Consent.builder().cpf(Cpf.parse(request.cpf())).additionalInfo("Info").build();
+
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.insert(entity)).thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key")));
+
+        assertThatThrownBy(() -> service.createConsent(request).block())
+                .isInstanceOf(DuplicateCpfException.class);
+        verify(repository, never()).save(any(Consent.class));
+    }
+
+    @Test
+    void shouldCreateConsentsBatchFetchingGitHubBioOnce() {
+
+        var first = new ConsentRequestDTO("111.444.777-35", ConsentStatus.ACTIVE, null, null);
+        var second = new ConsentRequestDTO("222.333.444-05", ConsentStatus.ACTIVE, null, null);
+        var existing = new ConsentRequestDTO("123.456.789-09", ConsentStatus.ACTIVE, null, "Info");
+        var firstEntity = Consent.builder().cpf(Cpf.parse(first.cpf())).build();
+        var secondEntity = Consent.builder().cpf(Cpf.parse(second.cpf())).build();
+
+        when(repository.findExistingCpfs(anySet())).thenReturn(Mono.just(Set.of(Cpf.parse(existing.cpf()))));
+        when(mapper.toEntity(first)).thenReturn(firstEntity);
+        when(mapper.toEntity(second)).thenReturn(secondEntity);
+        when(gitHubClient.getUserBio("fsousa1987")).thenReturn(Mono.just("GitHub Bio"));
+        when(repository.insertAllUnordered(List.of(firstEntity, secondEntity))).thenReturn(Mono.just(Set.of(1)));
+
+        var response = service.createConsentsBatch(List.of(first, second, existing)).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.items()).extracting(ConsentBatchItemResultDTO::status).containsExactly(
+                ConsentBatchItemResultDTO.Status.CREATED,
+                ConsentBatchItemResultDTO.Status.DUPLICATE,
+                ConsentBatchItemResultDTO.Status.DUPLICATE);
+        assertThat(firstEntity.getAdditionalInfo()).isEqualTo("GitHub Bio");
+        verify(gitHubClient, times(1)).getUserBio("fsousa1987");
+        verify(mapper, never()).toEntity(existing);
+    }
+
+    @Test
+    void shouldSearchByExpirationKeysetAndCapCount() {
+
+        var from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        var filter = new ConsentSearchFilter(Set.of(ConsentStatus.ACTIVE), from, from.plusMonths(1), null, null);
+        var first = Consent.builder().cpf(Cpf.parse("111.444.777-35")).expirationDateTime(from.plusDays(1)).build();
+        var second = Consent.builder().cpf(Cpf.parse("222.333.444-05")).expirationDateTime(from.plusDays(2)).build();
+
+        when(repository.search(filter, null, null, 2, ConsentProjection.ALL)).thenReturn(Flux.just(first, second));
+        when(repository.countMatching(filter, 5)).thenReturn(Mono.just(5L));
+
+        var result = service.searchConsents(filter, null, 1, CountMode.CAPPED, ConsentProjection.ALL).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isEqualTo(CursorUtils.encode(first.getExpirationDateTime(), first.getId()));
+        assertThat(result.totalElements()).isEqualTo(5L);
+        assertThat(result.totalCapped()).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenIdNotFound() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> service.getConsentById(id).block())
+                .isInstanceOf(ConsentNotFoundException.class)
+                .hasMessageContaining("Consentimento não encontrado");
+    }
+
+    @Test
+    void shouldUpdateConsentWithSingleFindAndModify() {
+        UUID id = UUID.randomUUID();
+        var request = new ConsentUpdateDTO(ConsentStatus.REVOKED, LocalDateTime.now().plusDays(2), "New Info");
+        var updated = Consent.builder().id(id).cpf(Cpf.parse("123.456.789-09")).status(request.status())
+                .expirationDateTime(request.expirationDateTime()).additionalInfo(request.additionalInfo()).build();
+
+        when(repository.updateAndGet(id, request.status(), request.expirationDateTime(), request.additionalInfo(),
+                null))
+                .thenReturn(Mono.just(updated));
+        when(historyRepository.save(any(ConsentHistory.class))).thenAnswer(invocation ->
+                Mono.just(invocation.getArgument(0)));
+        when(mapper.toResponseDTO(updated)).thenReturn(new ConsentResponseDTO(id, updated.getCpf().toString(),
+                updated.getStatus(), null, updated.getExpirationDateTime(), updated.getAdditionalInfo(),
+                updated.getVersion()));
+
+        var response = service.updateConsent(id, request, null).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.status()).isEqualTo(ConsentStatus.REVOKED);
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).save(any(Consent.class));
+    }
+
+    @Test
+    void shouldDeleteConsentAndRecordHistory() {
+        UUID id = UUID.randomUUID();
+        var entity = Consent.builder().id(id).cpf(Cpf.parse("123.456.789-09")).status(ConsentStatus.ACTIVE).build();
+
+        when(repository.deleteAndGet(id, null)).thenReturn(Mono.just(entity));
+        when(historyRepository.save(any(ConsentHistory.class))).thenAnswer(invocation ->
+                Mono.just(invocation.getArgument(0)));
+
+        service.deleteConsent(id, null).block();
+
+        verify(repository, never()).findById(any(UUID.class));
+        verify(historyRepository).save(argThat(history ->
+                history.getConsentId().equals(id) &&
+                        history.getOperation().equals("DELETED") &&
+                        history.getStatus() == ConsentStatus.REVOKED
+        ));
+    }
+
+    @Test
+    void shouldRejectDeleteWhenVersionDoesNotMatch() {
+        UUID id = UUID.randomUUID();
+        var expectedVersions = Set.of(2L);
+
+        when(repository.deleteAndGet(id, expectedVersions)).thenReturn(Mono.empty());
+        when(repository.existsById(id)).thenReturn(Mono.just(true));
+
+        assertThatThrownBy(() -> service.deleteConsent(id, expectedVersions).block())
+                .isInstanceOf(PreconditionFailedException.class);
+        verifyNoInteractions(historyRepository);
+    }
+
+}